@@ -3,6 +3,8 @@ package com.linearizability.common.base;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
+import com.linearizability.common.util.DateUtil;
+
 /**
  * 实体类基类 所有实体类应继承此类，提供通用的实体字段
  *
@@ -54,8 +56,9 @@ public abstract class BaseEntity implements Serializable {
     private String remark;
 
     public BaseEntity() {
-        this.createTime = LocalDateTime.now();
-        this.updateTime = LocalDateTime.now();
+        LocalDateTime now = DateUtil.now();
+        this.createTime = now;
+        this.updateTime = now;
     }
 
     public Long getId() {
@@ -136,21 +139,21 @@ public abstract class BaseEntity implements Serializable {
      */
     public void markAsDeleted() {
         this.deleted = true;
-        this.updateTime = LocalDateTime.now();
+        this.updateTime = DateUtil.now();
     }
 
     /**
      * 更新前处理（设置更新时间）
      */
     public void beforeUpdate() {
-        this.updateTime = LocalDateTime.now();
+        this.updateTime = DateUtil.now();
     }
 
     /**
      * 创建前处理（设置创建时间和更新时间）
      */
     public void beforeInsert() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = DateUtil.now();
         this.createTime = now;
         this.updateTime = now;
     }
@@ -24,7 +24,7 @@ public interface BaseEnum<V> {
         if (type == null || predicate == null || !type.isEnum()) {
             return Optional.empty();
         }
-        for (T baseEnum : type.getEnumConstants()) {
+        for (T baseEnum : BaseEnumIndex.of(type).constants()) {
             if (predicate.test(baseEnum)) {
                 return Optional.of(baseEnum);
             }
@@ -34,6 +34,7 @@ public interface BaseEnum<V> {
 
     /**
      * 根据编码查找枚举 支持多种匹配方式：== 比较、equals 比较、字符串忽略大小写比较
+     * 基于按枚举类缓存的查找索引，只需一次哈希查找
      *
      * @param  type 枚举类型
      * @param  code 编码
@@ -44,12 +45,54 @@ public interface BaseEnum<V> {
         if (code == null || type == null || !type.isEnum()) {
             return Optional.empty();
         }
-        return find(type, e -> e.getCode() == code || (e.getCode() != null && e.getCode().equals(code))
-                || String.valueOf(e.getCode()).equalsIgnoreCase(String.valueOf(code)));
+        return BaseEnumIndex.of(type).findByCode(code);
     }
 
     /**
-     * 根据描述查找枚举（忽略大小写）
+     * 根据整数编码查找枚举 编码均为Integer的枚举使用直接寻址表（编码范围较大时为二分查找），不装箱；
+     * 其他枚举按{@link #findByCode(Class, Object)}的规则匹配
+     *
+     * @param  type 枚举类型
+     * @param  code 编码
+     * @param  <T>  枚举类型
+     * @return      匹配的枚举，未找到返回 Optional.empty()
+     */
+    static <T extends Enum<T> & BaseEnum<?>> Optional<T> findByIntCode(Class<T> type, int code) {
+        if (type == null || !type.isEnum()) {
+            return Optional.empty();
+        }
+        return BaseEnumIndex.of(type).findByIntCode(code);
+    }
+
+    /**
+     * 根据整数编码查找枚举，与{@link #findByIntCode(Class, int)}相同，避免int参数装箱后走通用匹配
+     *
+     * @param  type 枚举类型
+     * @param  code 编码
+     * @param  <T>  枚举类型
+     * @return      匹配的枚举，未找到返回 Optional.empty()
+     */
+    static <T extends Enum<T> & BaseEnum<?>> Optional<T> findByCode(Class<T> type, int code) {
+        return findByIntCode(type, code);
+    }
+
+    /**
+     * 根据long编码查找枚举 编码均为Integer或均为Long的枚举不装箱；其他枚举按{@link #findByCode(Class, Object)}的规则匹配
+     *
+     * @param  type 枚举类型
+     * @param  code 编码
+     * @param  <T>  枚举类型
+     * @return      匹配的枚举，未找到返回 Optional.empty()
+     */
+    static <T extends Enum<T> & BaseEnum<?>> Optional<T> findByLongCode(Class<T> type, long code) {
+        if (type == null || !type.isEnum()) {
+            return Optional.empty();
+        }
+        return BaseEnumIndex.of(type).findByLongCode(code);
+    }
+
+    /**
+     * 根据描述查找枚举（忽略大小写） 基于按枚举类缓存的查找索引，只需一次哈希查找
      *
      * @param  type 枚举类型
      * @param  desc 描述
@@ -60,7 +103,7 @@ public interface BaseEnum<V> {
         if (desc == null || type == null || !type.isEnum()) {
             return Optional.empty();
         }
-        return find(type, e -> e.getDesc() != null && e.getDesc().equalsIgnoreCase(desc));
+        return BaseEnumIndex.of(type).findByDesc(desc);
     }
 
     /**
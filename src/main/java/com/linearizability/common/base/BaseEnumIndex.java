@@ -0,0 +1,294 @@
+package com.linearizability.common.base;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.linearizability.common.collection.LongObjectMap;
+
+/**
+ * 枚举查找索引 每个枚举类首次查找时构建一次并缓存在ClassValue中，编码和描述查找只需一次哈希查找，
+ * 精确匹配时不创建任何对象。匹配规则与逐个比较完全一致：返回按声明顺序第一个匹配的枚举常量
+ *
+ * @param  <T> 枚举类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+final class BaseEnumIndex<T extends Enum<T> & BaseEnum<?>> {
+
+    /**
+     * 整数编码直接寻址表的最大长度，编码范围超出时改用有序数组二分查找
+     */
+    static final int MAX_DENSE_RANGE = 4096;
+
+    /**
+     * 按枚举类缓存的索引
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final ClassValue<BaseEnumIndex<?>> INDEXES = new ClassValue<>() {
+
+        @Override
+        protected BaseEnumIndex<?> computeValue(Class<?> type) {
+            return new BaseEnumIndex(type);
+        }
+    };
+
+    /**
+     * 枚举常量（只读，不对外暴露）
+     */
+    private final T[] constants;
+
+    /**
+     * 编码（原类型）到匹配结果的映射
+     */
+    private final Map<Object, Optional<T>> byCode;
+
+    /**
+     * 编码字符串（忽略大小写折叠后）到匹配结果的映射
+     */
+    private final Map<String, Optional<T>> byFoldedCode;
+
+    /**
+     * 描述到匹配结果的映射
+     */
+    private final Map<String, Optional<T>> byDesc;
+
+    /**
+     * 描述（忽略大小写折叠后）到匹配结果的映射
+     */
+    private final Map<String, Optional<T>> byFoldedDesc;
+
+    /**
+     * 是否全部编码均为Integer（null编码除外），是时支持不装箱的整数编码查找
+     */
+    private final boolean intCodes;
+
+    /**
+     * 直接寻址表的最小编码
+     */
+    private final int denseOffset;
+
+    /**
+     * 直接寻址表：下标为编码减去最小编码，编码范围过大时为null
+     */
+    private final Optional<T>[] denseTable;
+
+    /**
+     * 编码范围过大时使用的升序编码数组
+     */
+    private final int[] sortedCodes;
+
+    /**
+     * 与sortedCodes对齐的匹配结果
+     */
+    private final Optional<T>[] sortedResults;
+
+    /**
+     * 全部编码均为Long（null编码除外）时的long编码映射，否则为null
+     */
+    private final LongObjectMap<Optional<T>> byLongCode;
+
+    private BaseEnumIndex(Class<T> type) {
+        this.constants = type.getEnumConstants();
+        int size = constants.length;
+        this.byFoldedCode = HashMap.newHashMap(size);
+        this.byFoldedDesc = HashMap.newHashMap(size);
+        for (T constant : constants) {
+            Optional<T> cached = Optional.of(constant);
+            byFoldedCode.putIfAbsent(foldCase(String.valueOf(constant.getCode())), cached);
+            if (constant.getDesc() != null) {
+                byFoldedDesc.putIfAbsent(foldCase(constant.getDesc()), cached);
+            }
+        }
+        // 精确匹配的结果取与之忽略大小写相等的最早常量，保证与逐个比较的结果一致
+        this.byCode = HashMap.newHashMap(size);
+        this.byDesc = HashMap.newHashMap(size);
+        for (T constant : constants) {
+            Object code = constant.getCode();
+            if (code != null) {
+                byCode.putIfAbsent(code, byFoldedCode.get(foldCase(String.valueOf(code))));
+            }
+            String desc = constant.getDesc();
+            if (desc != null) {
+                byDesc.putIfAbsent(desc, byFoldedDesc.get(foldCase(desc)));
+            }
+        }
+        boolean allInt = size > 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        int intCount = 0;
+        for (T constant : constants) {
+            Object code = constant.getCode();
+            if (code instanceof Integer value) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                intCount++;
+            } else if (code != null) {
+                allInt = false;
+            }
+        }
+        this.intCodes = allInt && intCount > 0;
+        if (intCodes && max - min < MAX_DENSE_RANGE) {
+            this.denseOffset = (int) min;
+            this.denseTable = newOptionalArray((int) (max - min + 1));
+            this.sortedCodes = null;
+            this.sortedResults = null;
+            for (Map.Entry<Object, Optional<T>> entry : byCode.entrySet()) {
+                denseTable[(Integer) entry.getKey() - denseOffset] = entry.getValue();
+            }
+        } else if (intCodes) {
+            this.denseOffset = 0;
+            this.denseTable = null;
+            this.sortedCodes = new int[byCode.size()];
+            this.sortedResults = newOptionalArray(byCode.size());
+            int index = 0;
+            for (Object code : byCode.keySet()) {
+                sortedCodes[index++] = (Integer) code;
+            }
+            Arrays.sort(sortedCodes);
+            for (int i = 0; i < sortedCodes.length; i++) {
+                sortedResults[i] = byCode.get(sortedCodes[i]);
+            }
+        } else {
+            this.denseOffset = 0;
+            this.denseTable = null;
+            this.sortedCodes = null;
+            this.sortedResults = null;
+        }
+        this.byLongCode = allLongCodes(constants) ? new LongObjectMap<>(byCode.size()) : null;
+        if (byLongCode != null) {
+            for (Map.Entry<Object, Optional<T>> entry : byCode.entrySet()) {
+                byLongCode.put((Long) entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 获取枚举类的查找索引
+     *
+     * @param  type 枚举类型
+     * @param  <T>  枚举类型
+     * @return      查找索引
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Enum<T> & BaseEnum<?>> BaseEnumIndex<T> of(Class<T> type) {
+        return (BaseEnumIndex<T>) INDEXES.get(type);
+    }
+
+    /**
+     * 根据编码查找：== 比较、equals 比较、字符串忽略大小写比较
+     *
+     * @param  code 编码（非null）
+     * @return      匹配的枚举
+     */
+    Optional<T> findByCode(Object code) {
+        Optional<T> result = byCode.get(code);
+        if (result != null) {
+            return result;
+        }
+        result = byFoldedCode.get(foldCase(String.valueOf(code)));
+        return result != null ? result : Optional.empty();
+    }
+
+    /**
+     * 根据整数编码查找，编码均为Integer时直接寻址或二分查找，不装箱
+     *
+     * @param  code 编码
+     * @return      匹配的枚举
+     */
+    Optional<T> findByIntCode(int code) {
+        if (!intCodes) {
+            return findByCode(code);
+        }
+        Optional<T> result;
+        if (denseTable != null) {
+            int index = code - denseOffset;
+            result = index >= 0 && index < denseTable.length ? denseTable[index] : null;
+        } else {
+            int index = Arrays.binarySearch(sortedCodes, code);
+            result = index >= 0 ? sortedResults[index] : null;
+        }
+        return result != null ? result : Optional.empty();
+    }
+
+    /**
+     * 根据long编码查找，编码均为Integer或均为Long时不装箱
+     *
+     * @param  code 编码
+     * @return      匹配的枚举
+     */
+    Optional<T> findByLongCode(long code) {
+        if (intCodes) {
+            return code == (int) code ? findByIntCode((int) code) : Optional.empty();
+        }
+        if (byLongCode == null) {
+            return findByCode(code);
+        }
+        Optional<T> result = byLongCode.get(code);
+        return result != null ? result : Optional.empty();
+    }
+
+    /**
+     * 根据描述查找（忽略大小写）
+     *
+     * @param  desc 描述（非null）
+     * @return      匹配的枚举
+     */
+    Optional<T> findByDesc(String desc) {
+        Optional<T> result = byDesc.get(desc);
+        if (result != null) {
+            return result;
+        }
+        result = byFoldedDesc.get(foldCase(desc));
+        return result != null ? result : Optional.empty();
+    }
+
+    /**
+     * 获取枚举常量数组（内部数组，调用方不得修改）
+     *
+     * @return 枚举常量
+     */
+    T[] constants() {
+        return constants;
+    }
+
+    private static boolean allLongCodes(Object[] constants) {
+        boolean found = false;
+        for (Object constant : constants) {
+            Object code = ((BaseEnum<?>) constant).getCode();
+            if (code instanceof Long) {
+                found = true;
+            } else if (code != null) {
+                return false;
+            }
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<T>[] newOptionalArray(int length) {
+        return (Optional<T>[]) new Optional<?>[length];
+    }
+
+    /**
+     * 按String.equalsIgnoreCase的规则折叠大小写（逐字符先转大写再转小写，与区域设置无关）
+     */
+    static String foldCase(String value) {
+        StringBuilder builder = null;
+        int length = value.length();
+        for (int i = 0; i < length;) {
+            int codePoint = value.codePointAt(i);
+            int folded = Character.toLowerCase(Character.toUpperCase(codePoint));
+            if (folded != codePoint && builder == null) {
+                builder = new StringBuilder(length);
+                builder.append(value, 0, i);
+            }
+            if (builder != null) {
+                builder.appendCodePoint(folded);
+            }
+            i += Character.charCount(codePoint);
+        }
+        return builder == null ? value : builder.toString();
+    }
+}
@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.linearizability.common.util.DateUtil;
+
 /**
  * 基础请求类 所有请求类应继承此类，提供通用的请求字段
  *
@@ -56,8 +58,8 @@ public class BaseRequest implements Serializable {
     private Map<String, Object> extParams;
 
     public BaseRequest() {
-        this.timestamp = System.currentTimeMillis();
-        this.startTime = LocalDateTime.now();
+        this.timestamp = DateUtil.currentTimestamp();
+        this.startTime = DateUtil.now();
     }
 
     public String getRequestId() {
@@ -1,12 +1,17 @@
 package com.linearizability.common.base;
 
 import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.linearizability.common.util.DateUtil;
+
 /**
- * 基础响应类 所有响应类应继承此类，提供通用的响应字段
+ * 基础响应类 所有响应类应继承此类，提供通用的响应字段 响应时间戳和响应时间在首次读取时（通常是序列化时）才记录，
+ * 创建响应对象时不读取时钟
  *
  * @author ZhangBoyuan
  * @since  2025-11-07
@@ -40,9 +45,12 @@ public class BaseResponse implements Serializable {
      */
     private Map<String, Object> extParams;
 
+    /**
+     * 是否已记录响应时间戳和响应时间
+     */
+    private boolean stamped;
+
     public BaseResponse() {
-        this.timestamp = System.currentTimeMillis();
-        this.responseTime = LocalDateTime.now();
     }
 
     public String getResponseId() {
@@ -54,18 +62,22 @@ public class BaseResponse implements Serializable {
     }
 
     public Long getTimestamp() {
+        stamp();
         return timestamp;
     }
 
     public void setTimestamp(Long timestamp) {
+        stamp();
         this.timestamp = timestamp;
     }
 
     public LocalDateTime getResponseTime() {
+        stamp();
         return responseTime;
     }
 
     public void setResponseTime(LocalDateTime responseTime) {
+        stamp();
         this.responseTime = responseTime;
     }
 
@@ -108,9 +120,22 @@ public class BaseResponse implements Serializable {
         return extParams == null ? null : extParams.get(key);
     }
 
+    /**
+     * 首次读取或设置时记录响应时间戳和响应时间，之后保持不变。两者取自同一次时钟读取，表示同一时刻
+     */
+    private void stamp() {
+        if (!stamped) {
+            Clock clock = DateUtil.getClock();
+            Instant now = clock.instant();
+            this.timestamp = now.toEpochMilli();
+            this.responseTime = LocalDateTime.ofInstant(now, clock.getZone());
+            this.stamped = true;
+        }
+    }
+
     @Override
     public String toString() {
-        return "BaseResponse{" + "responseId='" + responseId + '\'' + ", timestamp=" + timestamp + ", responseTime="
-                + responseTime + ", costTime=" + costTime + ", extParams=" + extParams + '}';
+        return "BaseResponse{" + "responseId='" + responseId + '\'' + ", timestamp=" + getTimestamp()
+                + ", responseTime=" + getResponseTime() + ", costTime=" + costTime + ", extParams=" + extParams + '}';
     }
 }
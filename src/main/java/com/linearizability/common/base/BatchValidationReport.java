@@ -0,0 +1,118 @@
+package com.linearizability.common.base;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 批量验证报告 以并行数组按行下标升序保存验证失败的行下标和错误消息，不为每行创建异常或结果对象
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class BatchValidationReport {
+
+    /**
+     * 失败行下标（升序）
+     */
+    private final int[] failedIndexes;
+
+    /**
+     * 错误消息（与failedIndexes对齐）
+     */
+    private final String[] messages;
+
+    /**
+     * 待验证的行数
+     */
+    private final int totalCount;
+
+    /**
+     * 是否因达到最大错误数而有行未被验证或有失败记录未放入报告
+     */
+    private final boolean truncated;
+
+    BatchValidationReport(int[] failedIndexes, String[] messages, int totalCount, boolean truncated) {
+        this.failedIndexes = failedIndexes;
+        this.messages = messages;
+        this.totalCount = totalCount;
+        this.truncated = truncated;
+    }
+
+    /**
+     * 判断是否全部行验证通过
+     *
+     * @return true表示没有失败行
+     */
+    public boolean isValid() {
+        return failedIndexes.length == 0;
+    }
+
+    /**
+     * 获取报告中的失败行数量（不超过最大错误数）
+     *
+     * @return 失败行数量
+     */
+    public int getErrorCount() {
+        return failedIndexes.length;
+    }
+
+    /**
+     * 获取第i个失败行在原列表中的下标
+     *
+     * @param  i                         失败行序号
+     * @return                           行下标
+     * @throws IndexOutOfBoundsException 序号越界时抛出
+     */
+    public int getFailedIndex(int i) {
+        return failedIndexes[i];
+    }
+
+    /**
+     * 获取第i个失败行的错误消息
+     *
+     * @param  i                         失败行序号
+     * @return                           错误消息
+     * @throws IndexOutOfBoundsException 序号越界时抛出
+     */
+    public String getMessage(int i) {
+        return messages[i];
+    }
+
+    /**
+     * 获取全部失败行下标（副本，升序）
+     *
+     * @return 失败行下标
+     */
+    public int[] getFailedIndexes() {
+        return failedIndexes.clone();
+    }
+
+    /**
+     * 获取全部错误消息（只读，与失败行下标对齐）
+     *
+     * @return 错误消息
+     */
+    public List<String> getMessages() {
+        return Arrays.asList(messages.clone());
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 判断报告是否不完整 达到最大错误数后仍有行未被验证或有失败记录未放入报告时为true，
+     * 恰好maxErrors个失败且全部行已验证时为false
+     *
+     * @return true表示报告不完整
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchValidationReport{" + "totalCount=" + totalCount + ", errorCount=" + failedIndexes.length
+                + ", truncated=" + truncated + '}';
+    }
+}
@@ -0,0 +1,183 @@
+package com.linearizability.common.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.linearizability.common.collection.IntList;
+import com.linearizability.common.exception.SystemException;
+
+/**
+ * 批量验证执行器 把行按下标切分为连续的块，工作线程按块号递增的顺序领取块并逐行验证，
+ * 失败数达到上限后不再领取新块。已领取的块总是下标最小的一段前缀，因此报告中的失败行是按下标排序的前maxErrors个。
+ * 调用线程被中断或某个块抛出异常时，工作线程不再领取新块
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+final class BatchValidator {
+
+    /**
+     * 每块的最大行数
+     */
+    static final int MAX_CHUNK_SIZE = 1024;
+
+    /**
+     * 平台线程模式下行数不超过该值时在调用线程中顺序验证
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private BatchValidator() {
+    }
+
+    /**
+     * 批量验证
+     *
+     * @param  validator                验证器
+     * @param  rows                     待验证的行
+     * @param  parallelism              并发度（工作线程数）
+     * @param  maxErrors                最大错误数
+     * @param  virtualThreads           是否使用虚拟线程
+     * @param  <T>                      行类型
+     * @return                          批量验证报告
+     * @throws IllegalArgumentException 并发度或最大错误数不是正数时抛出
+     * @throws SystemException          等待验证完成时被中断抛出
+     */
+    @SuppressWarnings("unchecked")
+    static <T> BatchValidationReport validateAll(Validator<T> validator, List<? extends T> rows, int parallelism,
+            int maxErrors, boolean virtualThreads) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive, but was: " + parallelism);
+        }
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("maxErrors must be positive, but was: " + maxErrors);
+        }
+        Object[] elements = rows == null ? new Object[0] : rows.toArray();
+        int size = elements.length;
+        if (parallelism == 1 || size == 0 || (!virtualThreads && size <= SEQUENTIAL_THRESHOLD)) {
+            Chunk chunk = validateRange((Validator<Object>) validator, elements, 0, size, maxErrors);
+            return report(List.of(chunk), size, maxErrors);
+        }
+        int chunkSize = Math.clamp((size + parallelism * 4L - 1) / (parallelism * 4L), 1, MAX_CHUNK_SIZE);
+        int chunkCount = (size + chunkSize - 1) / chunkSize;
+        Chunk[] chunks = new Chunk[chunkCount];
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicInteger errorCount = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Runnable worker = () -> {
+            int chunkIndex;
+            while (!cancelled.get() && !Thread.currentThread().isInterrupted() && errorCount.get() < maxErrors
+                    && (chunkIndex = nextChunk.getAndIncrement()) < chunkCount) {
+                int from = chunkIndex * chunkSize;
+                Chunk chunk = validateRange((Validator<Object>) validator, elements, from,
+                        Math.min(size, from + chunkSize), maxErrors);
+                chunks[chunkIndex] = chunk;
+                errorCount.addAndGet(chunk.failedIndexes.size());
+            }
+        };
+        int workers = Math.min(parallelism, chunkCount);
+        try (ExecutorService executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(workers)) {
+            List<Future<?>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(worker));
+            }
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                cancelled.set(true);
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new SystemException(SystemException.DEFAULT_CODE, "Batch validation interrupted", e);
+            } catch (ExecutionException e) {
+                cancelled.set(true);
+                executor.shutdownNow();
+                throw propagate(e.getCause());
+            }
+        }
+        List<Chunk> completed = new ArrayList<>(chunkCount);
+        for (Chunk chunk : chunks) {
+            if (chunk == null) {
+                break;
+            }
+            completed.add(chunk);
+        }
+        return report(completed, size, maxErrors);
+    }
+
+    /**
+     * 验证[from, to)范围内的行，块内失败数达到上限时停止
+     */
+    private static Chunk validateRange(Validator<Object> validator, Object[] elements, int from, int to,
+            int maxErrors) {
+        Chunk chunk = new Chunk();
+        int i = from;
+        for (; i < to && chunk.failedIndexes.size() < maxErrors; i++) {
+            String message;
+            try {
+                message = validator.validateWithMessage(elements[i]);
+            } catch (RuntimeException e) {
+                message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+            }
+            if (message != null) {
+                chunk.failedIndexes.add(i);
+                chunk.messages.add(message);
+            }
+        }
+        chunk.validatedCount = i - from;
+        return chunk;
+    }
+
+    private static BatchValidationReport report(List<Chunk> chunks, int size, int maxErrors) {
+        int total = 0;
+        long validated = 0;
+        for (Chunk chunk : chunks) {
+            total += chunk.failedIndexes.size();
+            validated += chunk.validatedCount;
+        }
+        int count = Math.min(total, maxErrors);
+        int[] failedIndexes = new int[count];
+        String[] messages = new String[count];
+        int position = 0;
+        for (Chunk chunk : chunks) {
+            for (int i = 0; i < chunk.failedIndexes.size() && position < count; i++, position++) {
+                failedIndexes[position] = chunk.failedIndexes.get(i);
+                messages[position] = chunk.messages.get(i);
+            }
+        }
+        // 有失败记录未放入报告或有行未被验证时才算截断，恰好maxErrors个失败且全部行已验证时报告是完整的
+        return new BatchValidationReport(failedIndexes, messages, size, total > maxErrors || validated < size);
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new SystemException(SystemException.DEFAULT_CODE, "Batch validation failed", cause);
+    }
+
+    /**
+     * 单个块的验证失败记录
+     */
+    private static final class Chunk {
+
+        private final IntList failedIndexes = new IntList();
+
+        private final List<String> messages = new ArrayList<>();
+
+        /**
+         * 块内实际验证的行数
+         */
+        private int validatedCount;
+    }
+}
@@ -0,0 +1,136 @@
+package com.linearizability.common.base;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 带容量上限的缓存转换器 按源对象的缓存键缓存转换结果，跨调用复用，超出容量时淘汰最久未使用的结果，
+ * 并统计命中、未命中和淘汰次数。线程安全；转换在锁外执行，并发未命中同一个键时可能重复转换，以先写入的结果为准。
+ * 缓存键为null或转换结果为null时不缓存
+ *
+ * @param  <S> 源类型
+ * @param  <T> 目标类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+public final class CachingConverter<S, T> implements Converter<S, T> {
+
+    private final Converter<S, T> delegate;
+
+    private final Function<? super S, ?> keyExtractor;
+
+    private final int maxSize;
+
+    /**
+     * 按访问顺序排列的缓存（访问需持有this锁）
+     */
+    private final LinkedHashMap<Object, T> cache;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    CachingConverter(Converter<S, T> delegate, int maxSize, Function<? super S, ?> keyExtractor) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive, but was: " + maxSize);
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("keyExtractor must not be null");
+        }
+        this.delegate = delegate;
+        this.keyExtractor = keyExtractor;
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, T> eldest) {
+                if (size() > CachingConverter.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public T convert(S source) {
+        if (source == null) {
+            return delegate.convert(null);
+        }
+        Object key = keyExtractor.apply(source);
+        if (key == null) {
+            synchronized (this) {
+                missCount++;
+            }
+            return delegate.convert(source);
+        }
+        synchronized (this) {
+            T cached = cache.get(key);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+        T result = delegate.convert(source);
+        if (result == null) {
+            return null;
+        }
+        synchronized (this) {
+            T existing = cache.putIfAbsent(key, result);
+            return existing != null ? existing : result;
+        }
+    }
+
+    @Override
+    public S reverse(T target) {
+        return delegate.reverse(target);
+    }
+
+    /**
+     * 清空缓存（不重置统计）
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 获取命中率
+     *
+     * @return 命中率，没有请求时返回0
+     */
+    public synchronized double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CachingConverter{" + "size=" + cache.size() + ", maxSize=" + maxSize + ", hitCount=" + hitCount
+                + ", missCount=" + missCount + ", evictionCount=" + evictionCount + '}';
+    }
+}
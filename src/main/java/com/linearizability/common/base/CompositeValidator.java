@@ -0,0 +1,88 @@
+package com.linearizability.common.base;
+
+import java.util.Arrays;
+
+/**
+ * 组合验证器 将连续的and（或or）组合展开为一个验证器数组，按顺序循环求值并短路，
+ * 避免多层嵌套lambda形成的深调用链
+ *
+ * @param  <T> 待验证的对象类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+final class CompositeValidator<T> implements Validator<T> {
+
+    /**
+     * true表示AND（全部通过），false表示OR（任意一个通过）
+     */
+    private final boolean all;
+
+    private final Validator<? super T>[] validators;
+
+    private CompositeValidator(boolean all, Validator<? super T>[] validators) {
+        this.all = all;
+        this.validators = validators;
+    }
+
+    /**
+     * 组合两个验证器，同类组合的成员被展开到同一个数组中
+     *
+     * @param  all   true表示AND，false表示OR
+     * @param  left  左侧验证器
+     * @param  right 右侧验证器
+     * @param  <T>   待验证的对象类型
+     * @return       组合后的验证器
+     */
+    static <T> Validator<T> combine(boolean all, Validator<? super T> left, Validator<? super T> right) {
+        if (right == null) {
+            throw new IllegalArgumentException("validator must not be null");
+        }
+        Validator<? super T>[] leftMembers = members(all, left);
+        Validator<? super T>[] rightMembers = members(all, right);
+        Validator<? super T>[] merged = Arrays.copyOf(leftMembers, leftMembers.length + rightMembers.length);
+        System.arraycopy(rightMembers, 0, merged, leftMembers.length, rightMembers.length);
+        return new CompositeValidator<>(all, merged);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Validator<? super T>[] members(boolean all, Validator<? super T> validator) {
+        if (validator instanceof CompositeValidator<?> composite && composite.all == all) {
+            return (Validator<? super T>[]) composite.validators;
+        }
+        return (Validator<? super T>[]) new Validator<?>[] {validator};
+    }
+
+    @Override
+    public boolean validate(T target) {
+        for (Validator<? super T> validator : validators) {
+            if (validator.validate(target) != all) {
+                return !all;
+            }
+        }
+        return all;
+    }
+
+    /**
+     * 取反验证器，再次取反时直接返回原验证器
+     *
+     * @param <T> 待验证的对象类型
+     */
+    static final class NegatedValidator<T> implements Validator<T> {
+
+        private final Validator<T> delegate;
+
+        NegatedValidator(Validator<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean validate(T target) {
+            return !delegate.validate(target);
+        }
+
+        @Override
+        public Validator<T> negate() {
+            return delegate;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.linearizability.common.base;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * 转换器接口 定义对象转换规范，用于不同对象类型之间的转换
@@ -16,6 +17,25 @@ import java.util.stream.Collectors;
 @FunctionalInterface
 public interface Converter<S, T> {
 
+    /**
+     * 获取按属性名映射的转换器 源类型的getter（或记录组件）与目标类型同名的setter一一对应，类型不兼容的属性被忽略。
+     * 属性和值转换规则在首次获取时解析一次，访问器为生成的函数，转换时不使用反射；同一类型对返回同一个缓存实例。
+     * 支持数值类型、java.time类型、BaseEnum与编码、普通枚举与名称、嵌套对象及其集合的转换，不处理循环引用
+     *
+     * @param  sourceType               源类型
+     * @param  targetType               目标类型（必须有公共无参构造函数）
+     * @param  <S>                      源类型
+     * @param  <T>                      目标类型
+     * @return                          线程安全的转换器，reverse()使用反方向的映射
+     * @throws IllegalArgumentException 类型为null或目标类型没有公共无参构造函数时抛出
+     */
+    static <S, T> Converter<S, T> mapping(Class<S> sourceType, Class<T> targetType) {
+        if (sourceType == null || targetType == null) {
+            throw new IllegalArgumentException("sourceType and targetType must not be null");
+        }
+        return MappingConverter.of(sourceType, targetType);
+    }
+
     /**
      * 将源对象转换为目标对象
      *
@@ -25,7 +45,7 @@ public interface Converter<S, T> {
     T convert(S source);
 
     /**
-     * 批量转换
+     * 批量转换 结果列表按源列表长度预分配容量
      *
      * @param  sources 源对象列表
      * @return         目标对象列表
@@ -34,11 +54,21 @@ public interface Converter<S, T> {
         if (sources == null || sources.isEmpty()) {
             return new ArrayList<>();
         }
-        return sources.stream().map(this::convert).collect(Collectors.toList());
+        List<T> result = new ArrayList<>(sources.size());
+        if (sources instanceof RandomAccess) {
+            for (int i = 0, size = sources.size(); i < size; i++) {
+                result.add(convert(sources.get(i)));
+            }
+        } else {
+            for (S source : sources) {
+                result.add(convert(source));
+            }
+        }
+        return result;
     }
 
     /**
-     * 批量转换（去空）
+     * 批量转换（去空） 结果列表按源列表长度预分配容量
      *
      * @param  sources 源对象列表
      * @return         目标对象列表（过滤掉null值）
@@ -47,7 +77,122 @@ public interface Converter<S, T> {
         if (sources == null || sources.isEmpty()) {
             return new ArrayList<>();
         }
-        return sources.stream().map(this::convert).filter(Objects::nonNull).collect(Collectors.toList());
+        List<T> result = new ArrayList<>(sources.size());
+        if (sources instanceof RandomAccess) {
+            for (int i = 0, size = sources.size(); i < size; i++) {
+                T target = convert(sources.get(i));
+                if (target != null) {
+                    result.add(target);
+                }
+            }
+        } else {
+            for (S source : sources) {
+                T target = convert(source);
+                if (target != null) {
+                    result.add(target);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 在公共ForkJoinPool中并行批量转换，结果保持源列表顺序 转换函数必须线程安全
+     *
+     * @param  sources 源对象列表
+     * @return         目标对象列表
+     */
+    default List<T> convertListParallel(List<S> sources) {
+        return convertListParallel(sources, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 在指定的ForkJoinPool中并行批量转换，结果保持源列表顺序 每个线程把结果写入预分配数组的对应下标，无需合并中间列表。
+     * 转换函数必须线程安全，转换抛出的运行时异常传播给调用方
+     *
+     * @param  sources                  源对象列表
+     * @param  pool                     执行转换的线程池
+     * @return                          目标对象列表
+     * @throws IllegalArgumentException 线程池为null时抛出
+     */
+    @SuppressWarnings("unchecked")
+    default List<T> convertListParallel(List<S> sources, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (sources == null || sources.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Object[] inputs = sources.toArray();
+        Object[] outputs = new Object[inputs.length];
+        pool.submit(() -> IntStream.range(0, inputs.length).parallel()
+                .forEach(i -> outputs[i] = convert((S) inputs[i]))).join();
+        return new ArrayList<>(Arrays.asList((T[]) outputs));
+    }
+
+    /**
+     * 惰性转换流 元素在消费时才逐个转换，适合边转换边写出的大结果集，无需同时持有源列表和目标列表
+     *
+     * @param  sources 源对象流
+     * @return         目标对象流，源对象流为null时返回空流
+     */
+    default Stream<T> convertStream(Stream<S> sources) {
+        if (sources == null) {
+            return Stream.empty();
+        }
+        return sources.map(this::convert);
+    }
+
+    /**
+     * 惰性转换迭代器 每次调用next()时才转换对应元素，支持remove()时委托给源迭代器
+     *
+     * @param  sources 源对象迭代器
+     * @return         目标对象迭代器，源对象迭代器为null时返回空迭代器
+     */
+    default Iterator<T> convertIterator(Iterator<S> sources) {
+        if (sources == null) {
+            return Collections.emptyIterator();
+        }
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return sources.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return convert(sources.next());
+            }
+
+            @Override
+            public void remove() {
+                sources.remove();
+            }
+        };
+    }
+
+    /**
+     * 按源对象引用去重的转换器 一次批量调用内同一个源对象（==）只转换一次，重复出现时返回同一个目标对象，
+     * 适合对象图中大量共享引用的场景（如同一页订单引用同一个客户）。缓存只在一次批量调用期间存在，
+     * 批量调用内嵌套使用的去重转换器共享该缓存；批量调用之外的单次convert()不缓存。返回的转换器线程安全，可作为字段长期持有
+     *
+     * @return 去重转换器
+     */
+    default Converter<S, T> memoized() {
+        return new MemoizingConverter<>(this);
+    }
+
+    /**
+     * 带容量上限的缓存转换器 按缓存键跨调用复用转换结果，超出容量时淘汰最久未使用的结果，提供命中统计。线程安全
+     *
+     * @param  maxSize                  最大缓存数量
+     * @param  keyExtractor             缓存键提取器（如实体ID），键为null时不缓存
+     * @return                          缓存转换器
+     * @throws IllegalArgumentException 最大缓存数量不是正数或键提取器为null时抛出
+     */
+    default CachingConverter<S, T> cached(int maxSize, Function<? super S, ?> keyExtractor) {
+        return new CachingConverter<>(this, maxSize, keyExtractor);
     }
 
     /**
@@ -0,0 +1,630 @@
+package com.linearizability.common.base;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import com.linearizability.common.exception.SystemException;
+import com.linearizability.common.util.DateUtil;
+
+/**
+ * 属性映射转换器 按属性名匹配源类型的getter（或记录组件）与目标类型的setter，创建时解析一次属性和值转换规则。
+ * 访问器通过LambdaMetafactory生成（无法生成时退回MethodHandle调用），转换时不使用反射。
+ * 支持基本类型与包装类型、数值类型之间、java.time类型之间、BaseEnum与编码、普通枚举与名称、嵌套对象及其集合的转换，
+ * 类型不兼容的属性被忽略。按类型对缓存，线程安全；不处理对象图中的循环引用
+ *
+ * @param  <S> 源类型
+ * @param  <T> 目标类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+final class MappingConverter<S, T> implements Converter<S, T> {
+
+    /**
+     * 按源类型、目标类型缓存的转换器
+     */
+    private static final ClassValue<Map<Class<?>, MappingConverter<?, ?>>> CACHE = new ClassValue<>() {
+
+        @Override
+        protected Map<Class<?>, MappingConverter<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * 原样赋值（无需转换）的标记
+     */
+    private static final Function<Object, Object> IDENTITY = value -> value;
+
+    /**
+     * 按源类型、目标类型登记的简单值转换（java.time、Date、时间戳及其字符串形式）
+     */
+    private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> SIMPLE_MAPPERS = new HashMap<>();
+
+    static {
+        register(LocalDateTime.class, LocalDate.class, value -> ((LocalDateTime) value).toLocalDate());
+        register(LocalDateTime.class, LocalTime.class, value -> ((LocalDateTime) value).toLocalTime());
+        register(LocalDateTime.class, Instant.class,
+                value -> ((LocalDateTime) value).atZone(DateUtil.DEFAULT_ZONE).toInstant());
+        register(LocalDateTime.class, Date.class, value -> DateUtil.toDate((LocalDateTime) value));
+        register(LocalDateTime.class, Long.class, value -> DateUtil.toTimestamp((LocalDateTime) value));
+        register(LocalDateTime.class, String.class, value -> DateUtil.format((LocalDateTime) value));
+        register(LocalDate.class, LocalDateTime.class, value -> ((LocalDate) value).atStartOfDay());
+        register(LocalDate.class, String.class, value -> DateUtil.format((LocalDate) value));
+        register(LocalTime.class, String.class, value -> DateUtil.format((LocalTime) value));
+        register(Instant.class, LocalDateTime.class,
+                value -> LocalDateTime.ofInstant((Instant) value, DateUtil.DEFAULT_ZONE));
+        register(Instant.class, Date.class, value -> Date.from((Instant) value));
+        register(Instant.class, Long.class, value -> ((Instant) value).toEpochMilli());
+        register(Date.class, LocalDateTime.class, value -> DateUtil.fromDate((Date) value));
+        register(Date.class, LocalDate.class, value -> DateUtil.fromDate((Date) value).toLocalDate());
+        register(Date.class, Instant.class, value -> ((Date) value).toInstant());
+        register(Date.class, Long.class, value -> ((Date) value).getTime());
+        register(Long.class, LocalDateTime.class, value -> DateUtil.fromTimestamp((Long) value));
+        register(Long.class, Instant.class, value -> Instant.ofEpochMilli((Long) value));
+        register(Long.class, Date.class, value -> new Date((Long) value));
+        register(String.class, LocalDateTime.class, value -> DateUtil.parseAny((String) value));
+        register(String.class, LocalDate.class, value -> {
+            LocalDateTime dateTime = DateUtil.parseAny((String) value);
+            return dateTime == null ? null : dateTime.toLocalDate();
+        });
+        register(String.class, LocalTime.class, value -> DateUtil.parseTime((String) value));
+    }
+
+    private final Class<S> sourceType;
+
+    private final Class<T> targetType;
+
+    /**
+     * 目标对象构造函数
+     */
+    private final Supplier<Object> constructor;
+
+    /**
+     * 属性映射（按源类型getter顺序）
+     */
+    private final PropertyMapping[] mappings;
+
+    private MappingConverter(Class<S> sourceType, Class<T> targetType) {
+        if (!isInstantiable(targetType)) {
+            throw new IllegalArgumentException(
+                    "Target type must be a concrete class with a public no-arg constructor: " + targetType.getName());
+        }
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.constructor = constructor(targetType);
+        Map<String, List<Method>> setters = setters(targetType);
+        List<PropertyMapping> list = new ArrayList<>();
+        for (Map.Entry<String, Method> entry : getters(sourceType).entrySet()) {
+            List<Method> candidates = setters.get(entry.getKey());
+            if (candidates != null) {
+                PropertyMapping mapping = mapping(entry.getValue(), candidates);
+                if (mapping != null) {
+                    list.add(mapping);
+                }
+            }
+        }
+        this.mappings = list.toArray(new PropertyMapping[0]);
+    }
+
+    /**
+     * 获取类型对的转换器，首次获取时解析属性并生成访问器
+     *
+     * @param  sourceType               源类型
+     * @param  targetType               目标类型
+     * @param  <S>                      源类型
+     * @param  <T>                      目标类型
+     * @return                          转换器
+     * @throws IllegalArgumentException 目标类型没有公共无参构造函数时抛出
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> MappingConverter<S, T> of(Class<S> sourceType, Class<T> targetType) {
+        Map<Class<?>, MappingConverter<?, ?>> byTarget = CACHE.get(sourceType);
+        MappingConverter<?, ?> converter = byTarget.get(targetType);
+        if (converter == null) {
+            // 不在computeIfAbsent中创建，嵌套类型的转换器可能在创建过程中访问同一映射
+            MappingConverter<?, ?> created = new MappingConverter<>(sourceType, targetType);
+            converter = byTarget.putIfAbsent(targetType, created);
+            if (converter == null) {
+                converter = created;
+            }
+        }
+        return (MappingConverter<S, T>) converter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T convert(S source) {
+        if (source == null) {
+            return null;
+        }
+        Object target = constructor.get();
+        for (PropertyMapping mapping : mappings) {
+            mapping.copy(source, target);
+        }
+        return (T) target;
+    }
+
+    /**
+     * 反向转换，使用目标类型到源类型的映射转换器
+     *
+     * @param  target                   目标对象
+     * @return                          源对象
+     * @throws IllegalArgumentException 源类型没有公共无参构造函数时抛出
+     */
+    @Override
+    public S reverse(T target) {
+        return of(targetType, sourceType).convert(target);
+    }
+
+    @Override
+    public String toString() {
+        return "MappingConverter{" + sourceType.getName() + " -> " + targetType.getName() + ", properties="
+                + mappings.length + '}';
+    }
+
+    private static PropertyMapping mapping(Method getter, List<Method> setters) {
+        Method chosen = null;
+        Function<Object, Object> mapper = null;
+        for (Method setter : setters) {
+            Function<Object, Object> candidate = valueMapper(getter.getGenericReturnType(),
+                    setter.getGenericParameterTypes()[0]);
+            if (candidate == IDENTITY) {
+                chosen = setter;
+                mapper = candidate;
+                break;
+            }
+            if (candidate != null && chosen == null) {
+                chosen = setter;
+                mapper = candidate;
+            }
+        }
+        if (chosen == null) {
+            return null;
+        }
+        return new PropertyMapping(getter(getter), setter(chosen), mapper == IDENTITY ? null : mapper,
+                chosen.getParameterTypes()[0].isPrimitive());
+    }
+
+    /**
+     * 解析源类型的可读属性：记录组件，或公共的getXxx/isXxx方法
+     */
+    private static Map<String, Method> getters(Class<?> type) {
+        Map<String, Method> getters = new LinkedHashMap<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                getters.put(component.getName(), component.getAccessor());
+            }
+            return getters;
+        }
+        Method[] methods = type.getMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        for (Method method : methods) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 0
+                    || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            String name = method.getName();
+            Class<?> returnType = method.getReturnType();
+            if (name.length() > 3 && name.startsWith("get") && returnType != void.class) {
+                getters.putIfAbsent(propertyName(name, 3), method);
+            } else if (name.length() > 2 && name.startsWith("is")
+                    && (returnType == boolean.class || returnType == Boolean.class)) {
+                getters.putIfAbsent(propertyName(name, 2), method);
+            }
+        }
+        return getters;
+    }
+
+    /**
+     * 解析目标类型的可写属性：公共的setXxx方法（允许重载和链式返回值）
+     */
+    private static Map<String, List<Method>> setters(Class<?> type) {
+        Map<String, List<Method>> setters = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+            if (!Modifier.isStatic(method.getModifiers()) && !method.isBridge() && method.getParameterCount() == 1
+                    && name.length() > 3 && name.startsWith("set")) {
+                setters.computeIfAbsent(propertyName(name, 3), key -> new ArrayList<>()).add(method);
+            }
+        }
+        return setters;
+    }
+
+    /**
+     * 按JavaBeans规则去掉前缀并首字母小写（前两个字母均为大写时保持原样）
+     */
+    private static String propertyName(String methodName, int prefixLength) {
+        String name = methodName.substring(prefixLength);
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 解析源属性类型到目标属性类型的值转换
+     *
+     * @return IDENTITY表示原样赋值，null表示类型不兼容
+     */
+    private static Function<Object, Object> valueMapper(Type sourceType, Type targetType) {
+        Class<?> from = wrap(rawType(sourceType));
+        Class<?> to = wrap(rawType(targetType));
+        if (Collection.class.isAssignableFrom(from) && Collection.class.isAssignableFrom(to)) {
+            return collectionMapper(sourceType, targetType, from, to);
+        }
+        if (to.isAssignableFrom(from)) {
+            return IDENTITY;
+        }
+        if (isBaseEnum(from)) {
+            Class<?> codeType = codeType(from);
+            Function<Object, Object> codeMapper = codeType == null ? null : valueMapper(codeType, to);
+            if (codeMapper == null) {
+                return null;
+            }
+            return value -> {
+                Object code = ((BaseEnum<?>) value).getCode();
+                return code == null ? null : codeMapper.apply(code);
+            };
+        }
+        if (isBaseEnum(to)) {
+            Class<?> codeType = codeType(to);
+            Function<Object, Object> codeMapper = codeType == null ? null : valueMapper(from, codeType);
+            return codeMapper == null ? null : enumByCode(to, codeMapper);
+        }
+        if (from.isEnum() || to.isEnum()) {
+            return enumMapper(from, to);
+        }
+        Function<Object, Object> simple = simpleMapper(from, to);
+        if (simple != null) {
+            return simple;
+        }
+        if (isNumeric(to) && (Number.class.isAssignableFrom(from) || from == String.class)) {
+            return numberMapper(from, to);
+        }
+        if (to == String.class && (Number.class.isAssignableFrom(from) || from == Boolean.class
+                || from == Character.class)) {
+            return String::valueOf;
+        }
+        if (to == Boolean.class && from == String.class) {
+            return value -> Boolean.valueOf(((String) value).trim());
+        }
+        if (isBean(from) && isBean(to) && isInstantiable(to)) {
+            return new NestedMapper(from, to);
+        }
+        return null;
+    }
+
+    private static Function<Object, Object> collectionMapper(Type sourceType, Type targetType, Class<?> from,
+            Class<?> to) {
+        Function<Object, Object> elementMapper = valueMapper(elementType(sourceType), elementType(targetType));
+        if (elementMapper == IDENTITY && to.isAssignableFrom(from)) {
+            return IDENTITY;
+        }
+        IntFunction<Collection<Object>> factory;
+        if (to.isAssignableFrom(ArrayList.class)) {
+            factory = ArrayList::new;
+        } else if (to.isAssignableFrom(LinkedHashSet.class)) {
+            factory = LinkedHashSet::newLinkedHashSet;
+        } else {
+            return null;
+        }
+        if (elementMapper == null) {
+            return null;
+        }
+        return value -> {
+            Collection<?> elements = (Collection<?>) value;
+            Collection<Object> result = factory.apply(elements.size());
+            for (Object element : elements) {
+                result.add(element == null ? null : elementMapper.apply(element));
+            }
+            return result;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object> enumMapper(Class<?> from, Class<?> to) {
+        if (from.isEnum() && to == String.class) {
+            return value -> ((Enum<?>) value).name();
+        }
+        if (to.isEnum() && (from == String.class || from.isEnum())) {
+            Map<String, Object> byName = new HashMap<>();
+            for (Object constant : to.getEnumConstants()) {
+                byName.put(((Enum<?>) constant).name(), constant);
+            }
+            return from == String.class ? value -> byName.get(((String) value).trim())
+                    : value -> byName.get(((Enum) value).name());
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E> & BaseEnum<?>> Function<Object, Object> enumByCode(Class<?> type,
+            Function<Object, Object> codeMapper) {
+        Class<E> enumType = (Class<E>) type;
+        return value -> {
+            Object code = codeMapper.apply(value);
+            if (code == null) {
+                return null;
+            }
+            Optional<E> result = code instanceof Integer intCode ? BaseEnum.findByIntCode(enumType, intCode)
+                    : BaseEnum.findByCode(enumType, code);
+            return result.orElse(null);
+        };
+    }
+
+    private static Function<Object, Object> simpleMapper(Class<?> from, Class<?> to) {
+        Class<?> key = Date.class.isAssignableFrom(from) ? Date.class : from;
+        Map<Class<?>, Function<Object, Object>> byTarget = SIMPLE_MAPPERS.get(key);
+        return byTarget == null ? null : byTarget.get(to);
+    }
+
+    private static Function<Object, Object> numberMapper(Class<?> from, Class<?> to) {
+        Function<Number, Object> mapper;
+        if (to == Long.class) {
+            mapper = Number::longValue;
+        } else if (to == Integer.class) {
+            mapper = Number::intValue;
+        } else if (to == Short.class) {
+            mapper = Number::shortValue;
+        } else if (to == Byte.class) {
+            mapper = Number::byteValue;
+        } else if (to == Double.class) {
+            mapper = Number::doubleValue;
+        } else if (to == Float.class) {
+            mapper = Number::floatValue;
+        } else if (to == BigDecimal.class) {
+            mapper = number -> number instanceof BigInteger bigInteger ? new BigDecimal(bigInteger)
+                    : new BigDecimal(number.toString());
+        } else {
+            mapper = number -> number instanceof BigDecimal decimal ? decimal.toBigInteger()
+                    : BigInteger.valueOf(number.longValue());
+        }
+        if (from == String.class) {
+            return value -> {
+                String text = ((String) value).trim();
+                return text.isEmpty() ? null : mapper.apply(new BigDecimal(text));
+            };
+        }
+        return value -> mapper.apply((Number) value);
+    }
+
+    private static void register(Class<?> from, Class<?> to, Function<Object, Object> mapper) {
+        SIMPLE_MAPPERS.computeIfAbsent(from, key -> new HashMap<>()).put(to, mapper);
+    }
+
+    private static boolean isNumeric(Class<?> type) {
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class
+                || type == Double.class || type == Float.class || type == BigDecimal.class
+                || type == BigInteger.class;
+    }
+
+    private static boolean isBaseEnum(Class<?> type) {
+        return type.isEnum() && BaseEnum.class.isAssignableFrom(type);
+    }
+
+    /**
+     * 取枚举常量中第一个非null编码的类型
+     */
+    private static Class<?> codeType(Class<?> enumType) {
+        for (Object constant : enumType.getEnumConstants()) {
+            Object code = ((BaseEnum<?>) constant).getCode();
+            if (code != null) {
+                return code.getClass();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断是否按嵌套对象处理：非数组、非枚举、非JDK类型
+     */
+    private static boolean isBean(Class<?> type) {
+        if (type.isArray() || type.isEnum() || type.isPrimitive()) {
+            return false;
+        }
+        String name = type.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    private static boolean isInstantiable(Class<?> type) {
+        if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            return false;
+        }
+        try {
+            type.getConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return rawType(parameterized.getRawType());
+        }
+        if (type instanceof GenericArrayType array) {
+            return rawType(array.getGenericComponentType()).arrayType();
+        }
+        if (type instanceof TypeVariable<?> variable) {
+            return rawType(variable.getBounds()[0]);
+        }
+        if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private static Type elementType(Type collectionType) {
+        if (collectionType instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> constructor(Class<?> type) {
+        MethodHandle handle;
+        try {
+            handle = lookup(type).unreflectConstructor(type.getConstructor());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot access the no-arg constructor of " + type.getName(), e);
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup(type), "get", MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class), handle, MethodType.methodType(type));
+            return (Supplier<Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+            return () -> {
+                try {
+                    return generic.invokeExact();
+                } catch (Throwable t) {
+                    throw rethrow(t);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandle handle = unreflect(method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup(owner), "apply",
+                    MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class), handle,
+                    MethodType.methodType(wrap(method.getReturnType()), owner));
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return source -> {
+                try {
+                    return generic.invokeExact(source);
+                } catch (Throwable t) {
+                    throw rethrow(t);
+                }
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandle handle = unreflect(method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup(owner), "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class), handle,
+                    MethodType.methodType(void.class, owner, wrap(method.getParameterTypes()[0])));
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            return (target, value) -> {
+                try {
+                    generic.invokeExact(target, value);
+                } catch (Throwable t) {
+                    throw rethrow(t);
+                }
+            };
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return lookup(method.getDeclaringClass()).unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access property method " + method, e);
+        }
+    }
+
+    /**
+     * 获取能访问指定类型的Lookup：同模块（或模块已开放）时取该类型的私有Lookup，否则退回公共Lookup
+     */
+    private static MethodHandles.Lookup lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        throw new SystemException(SystemException.DEFAULT_CODE, "Property access failed: " + throwable.getMessage(),
+                throwable);
+    }
+
+    /**
+     * 单个属性的映射：读取源属性、转换值、写入目标属性
+     */
+    private record PropertyMapping(Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+            Function<Object, Object> mapper, boolean primitiveTarget) {
+
+        void copy(Object source, Object target) {
+            Object value = getter.apply(source);
+            if (value != null && mapper != null) {
+                value = mapper.apply(value);
+            }
+            if (value == null && primitiveTarget) {
+                return;
+            }
+            setter.accept(target, value);
+        }
+    }
+
+    /**
+     * 嵌套对象的值转换，首次使用时才获取嵌套类型对的转换器（允许类型间相互引用）
+     */
+    private static final class NestedMapper implements Function<Object, Object> {
+
+        private final Class<?> sourceType;
+
+        private final Class<?> targetType;
+
+        private MappingConverter<Object, ?> converter;
+
+        private NestedMapper(Class<?> sourceType, Class<?> targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object apply(Object value) {
+            MappingConverter<Object, ?> current = converter;
+            if (current == null) {
+                // 转换器的字段均为final，并发首次使用时重复赋值是安全的
+                current = (MappingConverter<Object, ?>) of(sourceType, targetType);
+                converter = current;
+            }
+            return current.convert(value);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.linearizability.common.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 按源对象引用去重的转换器 去重缓存的作用域为一次批量调用（convertList、convertListNonNull、convertListParallel、
+ * convertStream、convertIterator）：同一次调用内同一个源对象只转换一次，调用结束后缓存即被丢弃。
+ * 批量调用期间，转换函数内部调用的其他去重转换器（如订单转换器中作为字段持有的客户转换器）共享同一作用域；
+ * 作用域之外的单次convert()直接委托给原转换器，不缓存。转换器本身无状态，线程安全
+ *
+ * @param  <S> 源类型
+ * @param  <T> 目标类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+final class MemoizingConverter<S, T> implements Converter<S, T> {
+
+    /**
+     * 当前线程所处的批量调用作用域
+     */
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private final Converter<S, T> delegate;
+
+    MemoizingConverter(Converter<S, T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T convert(S source) {
+        Scope scope = CURRENT.get();
+        if (scope == null || source == null) {
+            return delegate.convert(source);
+        }
+        return scope.convert(this, source);
+    }
+
+    @Override
+    public List<T> convertList(List<S> sources) {
+        return inScope(() -> Converter.super.convertList(sources));
+    }
+
+    @Override
+    public List<T> convertListNonNull(List<S> sources) {
+        return inScope(() -> Converter.super.convertListNonNull(sources));
+    }
+
+    /**
+     * 并行批量转换 本次调用的各工作线程共享一个线程安全的作用域
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<T> convertListParallel(List<S> sources, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (sources == null || sources.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Scope scope = new Scope(true);
+        Object[] inputs = sources.toArray();
+        Object[] outputs = new Object[inputs.length];
+        pool.submit(() -> IntStream.range(0, inputs.length).parallel()
+                .forEach(i -> outputs[i] = convertIn(scope, (S) inputs[i]))).join();
+        return new ArrayList<>(Arrays.asList((T[]) outputs));
+    }
+
+    /**
+     * 惰性转换流 作用域随返回的流存在，流可能被并行消费，因此使用线程安全的作用域
+     */
+    @Override
+    public Stream<T> convertStream(Stream<S> sources) {
+        if (sources == null) {
+            return Stream.empty();
+        }
+        Scope scope = new Scope(true);
+        return sources.map(source -> convertIn(scope, source));
+    }
+
+    @Override
+    public Iterator<T> convertIterator(Iterator<S> sources) {
+        if (sources == null) {
+            return Collections.emptyIterator();
+        }
+        Scope scope = new Scope(false);
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return sources.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return convertIn(scope, sources.next());
+            }
+
+            @Override
+            public void remove() {
+                sources.remove();
+            }
+        };
+    }
+
+    @Override
+    public S reverse(T target) {
+        return delegate.reverse(target);
+    }
+
+    /**
+     * 转换器本身不持有缓存，直接返回自身
+     */
+    @Override
+    public Converter<S, T> memoized() {
+        return this;
+    }
+
+    /**
+     * 在新的作用域内执行批量转换，当前线程已处于作用域内（嵌套批量调用）时沿用外层作用域
+     */
+    private static <R> R inScope(Supplier<R> action) {
+        if (CURRENT.get() != null) {
+            return action.get();
+        }
+        CURRENT.set(new Scope(false));
+        try {
+            return action.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 在指定作用域内转换单个元素，用于惰性和并行转换时逐个元素绑定作用域
+     */
+    private T convertIn(Scope scope, S source) {
+        if (CURRENT.get() != null) {
+            return convert(source);
+        }
+        CURRENT.set(scope);
+        try {
+            return convert(source);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 一次批量调用的去重作用域 按去重转换器分别保存源对象引用到转换结果的映射
+     */
+    private static final class Scope {
+
+        private final boolean concurrent;
+
+        private final Map<MemoizingConverter<?, ?>, Map<Object, Object>> caches;
+
+        private Scope(boolean concurrent) {
+            this.concurrent = concurrent;
+            this.caches = concurrent ? new ConcurrentHashMap<>() : new IdentityHashMap<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <S, T> T convert(MemoizingConverter<S, T> converter, S source) {
+            Map<Object, Object> cache = caches.computeIfAbsent(converter,
+                    key -> concurrent ? Collections.synchronizedMap(new IdentityHashMap<>()) : new IdentityHashMap<>());
+            Object result = cache.get(source);
+            if (result == null && !cache.containsKey(source)) {
+                // 转换期间不持有锁，嵌套的去重转换器可以在同一作用域内继续缓存；并发重复转换时保留先放入的结果
+                result = converter.delegate.convert(source);
+                Object existing = cache.putIfAbsent(source, result);
+                if (existing != null) {
+                    result = existing;
+                }
+            }
+            return (T) result;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.linearizability.common.base;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 验证结果 包含按规则顺序排列的违规项（规则ID和错误消息），通过验证时违规项为空
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class ValidationResult {
+
+    /**
+     * 验证通过的结果（共享实例）
+     */
+    private static final ValidationResult VALID = new ValidationResult(List.of());
+
+    /**
+     * 违规项（按规则顺序）
+     */
+    private final List<Violation> violations;
+
+    private ValidationResult(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    /**
+     * 验证通过的结果
+     *
+     * @return 没有违规项的结果
+     */
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * 根据违规项创建结果
+     *
+     * @param  violations 违规项
+     * @return            验证结果，违规项为空时返回验证通过的结果
+     */
+    public static ValidationResult of(List<Violation> violations) {
+        if (violations == null || violations.isEmpty()) {
+            return VALID;
+        }
+        return new ValidationResult(Collections.unmodifiableList(violations));
+    }
+
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * 判断是否验证通过
+     *
+     * @return true表示没有违规项
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * 获取全部错误消息，以"; "连接
+     *
+     * @return 错误消息，验证通过时返回null
+     */
+    public String getMessage() {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        if (violations.size() == 1) {
+            return violations.getFirst().getMessage();
+        }
+        return violations.stream().map(Violation::getMessage).collect(Collectors.joining("; "));
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult{" + "violations=" + violations + '}';
+    }
+
+    /**
+     * 违规项
+     */
+    public static class Violation {
+
+        /**
+         * 规则ID
+         */
+        private final String ruleId;
+
+        /**
+         * 错误消息
+         */
+        private final String message;
+
+        public Violation(String ruleId, String message) {
+            this.ruleId = ruleId;
+            this.message = message;
+        }
+
+        public String getRuleId() {
+            return ruleId;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Violation{" + "ruleId='" + ruleId + '\'' + ", message='" + message + '\'' + '}';
+        }
+    }
+}
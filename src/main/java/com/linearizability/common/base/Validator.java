@@ -1,5 +1,8 @@
 package com.linearizability.common.base;
 
+import java.util.List;
+
+import com.linearizability.common.exception.SystemException;
 import com.linearizability.common.exception.ValidationException;
 
 /**
@@ -31,14 +34,15 @@ public interface Validator<T> {
     }
 
     /**
-     * 验证对象，失败时抛出异常
+     * 验证对象，失败时抛出异常 只求值一次，异常消息取自validateWithMessage
      *
      * @param  target              待验证的对象
      * @throws ValidationException 验证失败时抛出
      */
     default void validateOrThrow(T target) {
-        if (!validate(target)) {
-            throw new ValidationException(validateWithMessage(target));
+        String message = validateWithMessage(target);
+        if (message != null) {
+            throw new ValidationException(message);
         }
     }
 
@@ -56,31 +60,78 @@ public interface Validator<T> {
     }
 
     /**
-     * 组合验证器（AND逻辑） 所有验证器都通过才算通过
+     * 在平台线程中并行批量验证，不限制错误数
+     *
+     * @param  rows                     待验证的行
+     * @param  parallelism              并发度（工作线程数）
+     * @return                          批量验证报告，失败行按下标升序排列
+     * @throws IllegalArgumentException 并发度不是正数时抛出
+     * @see                             #validateAll(List, int, int, boolean)
+     */
+    default BatchValidationReport validateAll(List<? extends T> rows, int parallelism) {
+        return validateAll(rows, parallelism, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * 在平台线程中并行批量验证，达到最大错误数后停止
+     *
+     * @param  rows                     待验证的行
+     * @param  parallelism              并发度（工作线程数）
+     * @param  maxErrors                最大错误数
+     * @return                          批量验证报告，失败行按下标升序排列
+     * @throws IllegalArgumentException 并发度或最大错误数不是正数时抛出
+     * @see                             #validateAll(List, int, int, boolean)
+     */
+    default BatchValidationReport validateAll(List<? extends T> rows, int parallelism, int maxErrors) {
+        return validateAll(rows, parallelism, maxErrors, false);
+    }
+
+    /**
+     * 并行批量验证 每行只求值一次（validateWithMessage），验证抛出的运行时异常记为该行的错误消息，
+     * 不会中断其他行。报告中的失败行是按下标排序的前maxErrors个，与并发度无关。
+     * 规则包含IO操作（如唯一性检查）时使用虚拟线程，并发度即同时进行的验证数
+     *
+     * @param  rows                     待验证的行
+     * @param  parallelism              并发度（工作线程数）
+     * @param  maxErrors                最大错误数，达到后不再验证新的行
+     * @param  virtualThreads           true使用虚拟线程，false使用平台线程（行数较少时在调用线程中顺序验证）
+     * @return                          批量验证报告，失败行按下标升序排列
+     * @throws IllegalArgumentException 并发度或最大错误数不是正数时抛出
+     * @throws SystemException          等待验证完成时被中断抛出
+     */
+    default BatchValidationReport validateAll(List<? extends T> rows, int parallelism, int maxErrors,
+            boolean virtualThreads) {
+        return BatchValidator.validateAll(this, rows, parallelism, maxErrors, virtualThreads);
+    }
+
+    /**
+     * 组合验证器（AND逻辑） 所有验证器都通过才算通过，连续的and组合被展开为一个验证器数组，按顺序短路求值
      *
-     * @param  other 另一个验证器
-     * @return       组合后的验证器
+     * @param  other                    另一个验证器
+     * @return                          组合后的验证器
+     * @throws IllegalArgumentException 另一个验证器为null时抛出
      */
     default Validator<T> and(Validator<? super T> other) {
-        return target -> validate(target) && other.validate(target);
+        return CompositeValidator.combine(true, this, other);
     }
 
     /**
-     * 组合验证器（OR逻辑） 任意一个验证器通过就算通过
+     * 组合验证器（OR逻辑） 任意一个验证器通过就算通过，连续的or组合被展开为一个验证器数组，按顺序短路求值
      *
-     * @param  other 另一个验证器
-     * @return       组合后的验证器
+     * @param  other                    另一个验证器
+     * @return                          组合后的验证器
+     * @throws IllegalArgumentException 另一个验证器为null时抛出
      */
     default Validator<T> or(Validator<? super T> other) {
-        return target -> validate(target) || other.validate(target);
+        return CompositeValidator.combine(false, this, other);
     }
 
     /**
-     * 取反验证器
+     * 取反验证器 再次取反时返回原验证器
      *
      * @return 取反后的验证器
      */
     default Validator<T> negate() {
-        return target -> !validate(target);
+        return new CompositeValidator.NegatedValidator<>(this);
     }
 }
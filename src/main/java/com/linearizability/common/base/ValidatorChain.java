@@ -0,0 +1,228 @@
+package com.linearizability.common.base;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.linearizability.common.exception.ValidationException;
+
+/**
+ * 验证规则链 将带规则ID的验证规则编译为数组，按顺序对每条规则只求值一次，
+ * 快速失败模式在第一条违规时停止，收集模式执行全部规则，结果以{@link ValidationResult}返回。实例不可变，线程安全
+ *
+ * @param  <T> 待验证的对象类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+public final class ValidatorChain<T> implements Validator<T> {
+
+    /**
+     * 规则ID
+     */
+    private final String[] ruleIds;
+
+    /**
+     * 验证器（与ruleIds对齐）
+     */
+    private final Validator<? super T>[] validators;
+
+    /**
+     * 错误消息（与ruleIds对齐），为null时使用验证器的validateWithMessage
+     */
+    private final String[] messages;
+
+    /**
+     * 是否快速失败
+     */
+    private final boolean failFast;
+
+    @SuppressWarnings("unchecked")
+    private ValidatorChain(Builder<T> builder) {
+        int size = builder.rules.size();
+        this.ruleIds = new String[size];
+        this.validators = (Validator<? super T>[]) new Validator<?>[size];
+        this.messages = new String[size];
+        for (int i = 0; i < size; i++) {
+            Rule<T> rule = builder.rules.get(i);
+            ruleIds[i] = rule.ruleId;
+            validators[i] = rule.validator;
+            messages[i] = rule.message;
+        }
+        this.failFast = builder.failFast;
+    }
+
+    /**
+     * 创建规则链构建器（默认快速失败）
+     *
+     * @param  <T> 待验证的对象类型
+     * @return     构建器
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 按规则顺序验证对象
+     *
+     * @param  target 待验证的对象
+     * @return        验证结果，快速失败模式下最多包含一个违规项
+     */
+    public ValidationResult check(T target) {
+        List<ValidationResult.Violation> violations = null;
+        for (int i = 0; i < validators.length; i++) {
+            String message = evaluate(i, target);
+            if (message != null) {
+                if (violations == null) {
+                    violations = new ArrayList<>(failFast ? 1 : validators.length - i);
+                }
+                violations.add(new ValidationResult.Violation(ruleIds[i], message));
+                if (failFast) {
+                    break;
+                }
+            }
+        }
+        return ValidationResult.of(violations);
+    }
+
+    /**
+     * 验证对象（在第一条违规时停止，与模式无关）
+     *
+     * @param  target 待验证的对象
+     * @return        true表示全部规则通过
+     */
+    @Override
+    public boolean validate(T target) {
+        for (int i = 0; i < validators.length; i++) {
+            if (evaluate(i, target) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 验证对象并返回错误消息
+     *
+     * @param  target 待验证的对象
+     * @return        验证通过返回null，否则返回错误消息（收集模式下为全部消息以"; "连接）
+     */
+    @Override
+    public String validateWithMessage(T target) {
+        return check(target).getMessage();
+    }
+
+    /**
+     * 验证对象，失败时抛出异常 异常的data为{@link ValidationResult}
+     *
+     * @param  target              待验证的对象
+     * @throws ValidationException 验证失败时抛出
+     */
+    @Override
+    public void validateOrThrow(T target) {
+        ValidationResult result = check(target);
+        if (!result.isValid()) {
+            throw new ValidationException(ValidationException.DEFAULT_CODE, result.getMessage(), result);
+        }
+    }
+
+    /**
+     * 判断是否快速失败模式
+     *
+     * @return true表示快速失败，false表示收集全部违规
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * 获取规则数量
+     *
+     * @return 规则数量
+     */
+    public int size() {
+        return validators.length;
+    }
+
+    private String evaluate(int index, T target) {
+        String message = messages[index];
+        if (message == null) {
+            return validators[index].validateWithMessage(target);
+        }
+        return validators[index].validate(target) ? null : message;
+    }
+
+    /**
+     * 规则链构建器
+     *
+     * @param <T> 待验证的对象类型
+     */
+    public static final class Builder<T> {
+
+        private final List<Rule<T>> rules = new ArrayList<>();
+
+        private boolean failFast = true;
+
+        private Builder() {
+        }
+
+        /**
+         * 添加规则，错误消息取自验证器的validateWithMessage
+         *
+         * @param  ruleId                   规则ID
+         * @param  validator                验证器
+         * @return                          当前构建器
+         * @throws IllegalArgumentException 规则ID或验证器为null时抛出
+         */
+        public Builder<T> rule(String ruleId, Validator<? super T> validator) {
+            return rule(ruleId, validator, null);
+        }
+
+        /**
+         * 添加规则
+         *
+         * @param  ruleId                   规则ID
+         * @param  validator                验证器
+         * @param  message                  验证失败时的错误消息，为null时取自验证器的validateWithMessage
+         * @return                          当前构建器
+         * @throws IllegalArgumentException 规则ID或验证器为null时抛出
+         */
+        public Builder<T> rule(String ruleId, Validator<? super T> validator, String message) {
+            if (ruleId == null || validator == null) {
+                throw new IllegalArgumentException("ruleId and validator must not be null");
+            }
+            rules.add(new Rule<>(ruleId, validator, message));
+            return this;
+        }
+
+        /**
+         * 快速失败：遇到第一条违规时停止（默认）
+         *
+         * @return 当前构建器
+         */
+        public Builder<T> failFast() {
+            this.failFast = true;
+            return this;
+        }
+
+        /**
+         * 收集全部违规：执行全部规则
+         *
+         * @return 当前构建器
+         */
+        public Builder<T> collectAll() {
+            this.failFast = false;
+            return this;
+        }
+
+        /**
+         * 构建规则链
+         *
+         * @return 不可变的规则链
+         */
+        public ValidatorChain<T> build() {
+            return new ValidatorChain<>(this);
+        }
+    }
+
+    private record Rule<T>(String ruleId, Validator<? super T> validator, String message) {
+    }
+}
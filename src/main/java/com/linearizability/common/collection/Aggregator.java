@@ -0,0 +1,74 @@
+package com.linearizability.common.collection;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 聚合器接口 定义按键分组聚合时每个分组的可变状态、累加方式和最终结果，
+ * 每个分组只创建一个状态对象，元素逐个累加到状态中，无需保存分组内的元素列表。常用实现见{@link Aggregators}
+ *
+ * @param  <T> 元素类型
+ * @param  <A> 分组状态类型
+ * @param  <R> 聚合结果类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+public interface Aggregator<T, A, R> {
+
+    /**
+     * 创建自定义聚合器
+     *
+     * @param  supplier    状态创建函数
+     * @param  accumulator 累加函数
+     * @param  finisher    结果函数
+     * @param  <T>         元素类型
+     * @param  <A>         分组状态类型
+     * @param  <R>         聚合结果类型
+     * @return             聚合器
+     */
+    static <T, A, R> Aggregator<T, A, R> of(Supplier<A> supplier, BiConsumer<A, T> accumulator,
+            Function<A, R> finisher) {
+        return new Aggregator<>() {
+
+            @Override
+            public A newState() {
+                return supplier.get();
+            }
+
+            @Override
+            public void accumulate(A state, T element) {
+                accumulator.accept(state, element);
+            }
+
+            @Override
+            public R result(A state) {
+                return finisher.apply(state);
+            }
+        };
+    }
+
+    /**
+     * 创建分组状态，每个分组调用一次
+     *
+     * @return 分组状态
+     */
+    A newState();
+
+    /**
+     * 将元素累加到分组状态
+     *
+     * @param state   分组状态
+     * @param element 元素
+     */
+    void accumulate(A state, T element);
+
+    /**
+     * 根据分组状态计算聚合结果
+     *
+     * @param  state 分组状态
+     * @return       聚合结果
+     */
+    R result(A state);
+
+}
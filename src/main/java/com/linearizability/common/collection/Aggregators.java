@@ -0,0 +1,209 @@
+package com.linearizability.common.collection;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 常用聚合器 提供计数、求和、平均值、最小/最大值、首个/末个值和去重计数（HyperLogLog估算）聚合器，
+ * 每个分组只持有一个小的可变状态对象
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class Aggregators {
+
+    /**
+     * 计数
+     *
+     * @param  <T> 元素类型
+     * @return     聚合器，结果为元素数量
+     */
+    public static <T> Aggregator<T, LongState, Long> count() {
+        return Aggregator.of(LongState::new, (state, element) -> state.value++, state -> state.value);
+    }
+
+    /**
+     * long字段求和
+     *
+     * @param  fieldExtractor long字段提取器（字段为包装类型时，值不能为null）
+     * @param  <T>            元素类型
+     * @return                聚合器，结果为字段值之和
+     */
+    public static <T> Aggregator<T, LongState, Long> sumLong(ToLongFunction<T> fieldExtractor) {
+        return Aggregator.of(LongState::new, (state, element) -> state.value += fieldExtractor.applyAsLong(element),
+                state -> state.value);
+    }
+
+    /**
+     * double字段求和（Kahan补偿求和，减少累积误差）
+     *
+     * @param  fieldExtractor double字段提取器（字段为包装类型时，值不能为null）
+     * @param  <T>            元素类型
+     * @return                聚合器，结果为字段值之和
+     */
+    public static <T> Aggregator<T, DoubleState, Double> sumDouble(ToDoubleFunction<T> fieldExtractor) {
+        return Aggregator.of(DoubleState::new, (state, element) -> state.add(fieldExtractor.applyAsDouble(element)),
+                DoubleState::sum);
+    }
+
+    /**
+     * double字段平均值
+     *
+     * @param  fieldExtractor double字段提取器（字段为包装类型时，值不能为null）
+     * @param  <T>            元素类型
+     * @return                聚合器，结果为字段值的平均值
+     */
+    public static <T> Aggregator<T, DoubleState, Double> average(ToDoubleFunction<T> fieldExtractor) {
+        return Aggregator.of(DoubleState::new, (state, element) -> state.add(fieldExtractor.applyAsDouble(element)),
+                state -> state.count == 0 ? 0.0 : state.sum() / state.count);
+    }
+
+    /**
+     * 最小值（忽略null字段值）
+     *
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            元素类型
+     * @param  <R>            字段类型（必须实现Comparable接口）
+     * @return                聚合器，结果为最小字段值，全部为null时结果为null
+     */
+    public static <T, R extends Comparable<? super R>> Aggregator<T, ValueState<R>, R> min(
+            Function<T, R> fieldExtractor) {
+        return Aggregator.of(ValueState::new, (state, element) -> {
+            R value = fieldExtractor.apply(element);
+            if (value != null && (state.value == null || value.compareTo(state.value) < 0)) {
+                state.value = value;
+            }
+        }, state -> state.value);
+    }
+
+    /**
+     * 最大值（忽略null字段值）
+     *
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            元素类型
+     * @param  <R>            字段类型（必须实现Comparable接口）
+     * @return                聚合器，结果为最大字段值，全部为null时结果为null
+     */
+    public static <T, R extends Comparable<? super R>> Aggregator<T, ValueState<R>, R> max(
+            Function<T, R> fieldExtractor) {
+        return Aggregator.of(ValueState::new, (state, element) -> {
+            R value = fieldExtractor.apply(element);
+            if (value != null && (state.value == null || value.compareTo(state.value) > 0)) {
+                state.value = value;
+            }
+        }, state -> state.value);
+    }
+
+    /**
+     * 分组内第一个元素的字段值
+     *
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            元素类型
+     * @param  <R>            字段类型
+     * @return                聚合器
+     */
+    public static <T, R> Aggregator<T, ValueState<R>, R> first(Function<T, R> fieldExtractor) {
+        return Aggregator.of(ValueState::new, (state, element) -> {
+            if (!state.present) {
+                state.value = fieldExtractor.apply(element);
+                state.present = true;
+            }
+        }, state -> state.value);
+    }
+
+    /**
+     * 分组内最后一个元素的字段值
+     *
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            元素类型
+     * @param  <R>            字段类型
+     * @return                聚合器
+     */
+    public static <T, R> Aggregator<T, ValueState<R>, R> last(Function<T, R> fieldExtractor) {
+        return Aggregator.of(ValueState::new, (state, element) -> state.value = fieldExtractor.apply(element),
+                state -> state.value);
+    }
+
+    /**
+     * 去重计数估算（HyperLogLog，默认精度，每个分组约4KB，标准误差约1.6%），忽略null字段值
+     *
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            元素类型
+     * @return                聚合器，结果为不同字段值数量的估算值
+     */
+    public static <T> Aggregator<T, HyperLogLog, Long> distinctCount(Function<T, ?> fieldExtractor) {
+        return distinctCount(fieldExtractor, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * 去重计数估算（HyperLogLog，指定精度），忽略null字段值
+     *
+     * @param  fieldExtractor           字段提取器
+     * @param  precision                精度，每个分组占用2^precision字节
+     * @param  <T>                      元素类型
+     * @return                          聚合器，结果为不同字段值数量的估算值
+     * @throws IllegalArgumentException 精度超出[4, 18]时抛出
+     */
+    public static <T> Aggregator<T, HyperLogLog, Long> distinctCount(Function<T, ?> fieldExtractor, int precision) {
+        if (precision < HyperLogLog.MIN_PRECISION || precision > HyperLogLog.MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between " + HyperLogLog.MIN_PRECISION + " and "
+                    + HyperLogLog.MAX_PRECISION + ", but was: " + precision);
+        }
+        return Aggregator.of(() -> new HyperLogLog(precision),
+                (state, element) -> state.add(fieldExtractor.apply(element)), HyperLogLog::estimate);
+    }
+
+    /**
+     * long类型分组状态
+     */
+    public static final class LongState {
+
+        private long value;
+
+        private LongState() {
+        }
+    }
+
+    /**
+     * double类型分组状态（Kahan补偿求和）
+     */
+    public static final class DoubleState {
+
+        private double sum;
+
+        private double compensation;
+
+        private long count;
+
+        private DoubleState() {
+        }
+
+        private void add(double value) {
+            double y = value - compensation;
+            double t = sum + y;
+            compensation = (t - sum) - y;
+            sum = t;
+            count++;
+        }
+
+        private double sum() {
+            return sum;
+        }
+    }
+
+    /**
+     * 对象类型分组状态
+     *
+     * @param <R> 值类型
+     */
+    public static final class ValueState<R> {
+
+        private R value;
+
+        private boolean present;
+
+        private ValueState() {
+        }
+    }
+}
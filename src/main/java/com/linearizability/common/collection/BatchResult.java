@@ -0,0 +1,117 @@
+package com.linearizability.common.collection;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 分批处理结果 包含按批次顺序合并的成功结果以及每个失败批次的异常信息
+ *
+ * @param  <R> 结果元素类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+public class BatchResult<R> {
+
+    /**
+     * 成功批次的结果（按批次顺序合并）
+     */
+    private final List<R> results;
+
+    /**
+     * 失败批次（按批次顺序）
+     */
+    private final List<BatchFailure> failures;
+
+    /**
+     * 批次总数
+     */
+    private final int batchCount;
+
+    public BatchResult(List<R> results, List<BatchFailure> failures, int batchCount) {
+        this.results = Collections.unmodifiableList(results);
+        this.failures = Collections.unmodifiableList(failures);
+        this.batchCount = batchCount;
+    }
+
+    public List<R> getResults() {
+        return results;
+    }
+
+    public List<BatchFailure> getFailures() {
+        return failures;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * 判断是否全部批次都处理成功
+     *
+     * @return true表示没有失败批次
+     */
+    public boolean isAllSucceeded() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" + "resultCount=" + results.size() + ", failures=" + failures + ", batchCount="
+                + batchCount + '}';
+    }
+
+    /**
+     * 失败批次
+     */
+    public static class BatchFailure {
+
+        /**
+         * 批次序号（从0开始）
+         */
+        private final int batchIndex;
+
+        /**
+         * 批次在原列表中的起始下标（包含）
+         */
+        private final int fromIndex;
+
+        /**
+         * 批次元素，便于重试
+         */
+        private final List<?> batch;
+
+        /**
+         * 失败原因
+         */
+        private final Throwable cause;
+
+        public BatchFailure(int batchIndex, int fromIndex, List<?> batch, Throwable cause) {
+            this.batchIndex = batchIndex;
+            this.fromIndex = fromIndex;
+            this.batch = batch;
+            this.cause = cause;
+        }
+
+        public int getBatchIndex() {
+            return batchIndex;
+        }
+
+        public int getFromIndex() {
+            return fromIndex;
+        }
+
+        public List<?> getBatch() {
+            return batch;
+        }
+
+        public Throwable getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "BatchFailure{" + "batchIndex=" + batchIndex + ", fromIndex=" + fromIndex + ", size="
+                    + batch.size() + ", cause=" + cause + '}';
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.linearizability.common.collection;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 字段索引 对列表按指定字段建立的不可变索引，用于同一列表上的反复查询。哈希索引按键分组，contains/get/count为O(1)；
+ * 有序索引按键排序，contains/get/count为O(log n)，并支持范围查询。null元素和字段值为null的元素不参与索引，
+ * 同一键下的元素保持原列表顺序。同一列表上的多个索引共享元素快照，建立后修改原列表不影响索引。线程安全
+ *
+ * @param  <K> 键类型
+ * @param  <T> 元素类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+public final class FieldIndex<K, T> {
+
+    /**
+     * 元素快照（多个索引共享）
+     */
+    private final Object[] elements;
+
+    /**
+     * 元素下标，按键分组（哈希索引）或按键排序（有序索引）
+     */
+    private final int[] order;
+
+    /**
+     * 哈希索引：键到{分组起点, 元素数量}的映射；有序索引为null
+     */
+    private final Map<K, int[]> groups;
+
+    /**
+     * 有序索引：与order对齐的有序键；哈希索引为null
+     */
+    private final Object[] sortedKeys;
+
+    /**
+     * 有序索引的键比较器；哈希索引为null
+     */
+    private final Comparator<? super K> comparator;
+
+    private FieldIndex(Object[] elements, int[] order, Map<K, int[]> groups, Object[] sortedKeys,
+            Comparator<? super K> comparator) {
+        this.elements = elements;
+        this.order = order;
+        this.groups = groups;
+        this.sortedKeys = sortedKeys;
+        this.comparator = comparator;
+    }
+
+    /**
+     * 建立哈希索引
+     *
+     * @param  list         列表
+     * @param  keyExtractor 键提取器
+     * @param  <K>          键类型
+     * @param  <T>          元素类型
+     * @return              哈希索引
+     */
+    public static <K, T> FieldIndex<K, T> hash(List<T> list, Function<T, K> keyExtractor) {
+        return hash(snapshot(list), keyExtractor);
+    }
+
+    /**
+     * 建立有序索引
+     *
+     * @param  list         列表
+     * @param  keyExtractor 键提取器
+     * @param  <K>          键类型（必须实现Comparable接口）
+     * @param  <T>          元素类型
+     * @return              有序索引
+     */
+    public static <K extends Comparable<? super K>, T> FieldIndex<K, T> sorted(List<T> list,
+            Function<T, K> keyExtractor) {
+        return sorted(snapshot(list), keyExtractor, Comparator.naturalOrder());
+    }
+
+    /**
+     * 在同一元素快照上建立另一个字段的哈希索引
+     *
+     * @param  keyExtractor 键提取器
+     * @param  <K2>         键类型
+     * @return              哈希索引
+     */
+    public <K2> FieldIndex<K2, T> index(Function<T, K2> keyExtractor) {
+        return hash(elements, keyExtractor);
+    }
+
+    /**
+     * 在同一元素快照上建立另一个字段的有序索引
+     *
+     * @param  keyExtractor 键提取器
+     * @param  <K2>         键类型（必须实现Comparable接口）
+     * @return              有序索引
+     */
+    public <K2 extends Comparable<? super K2>> FieldIndex<K2, T> sortedIndex(Function<T, K2> keyExtractor) {
+        return sorted(elements, keyExtractor, Comparator.naturalOrder());
+    }
+
+    /**
+     * 判断是否存在指定键的元素
+     *
+     * @param  key 键
+     * @return     是否存在
+     */
+    public boolean contains(K key) {
+        return count(key) > 0;
+    }
+
+    /**
+     * 获取指定键的第一个元素（原列表顺序）
+     *
+     * @param  key 键
+     * @return     元素，不存在时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public T get(K key) {
+        if (key == null) {
+            return null;
+        }
+        int start;
+        if (groups != null) {
+            int[] group = groups.get(key);
+            if (group == null) {
+                return null;
+            }
+            start = group[0];
+        } else {
+            start = lowerBound(key);
+            if (start == order.length || compareKey(start, key) != 0) {
+                return null;
+            }
+        }
+        return (T) elements[order[start]];
+    }
+
+    /**
+     * 获取指定键的全部元素（原列表顺序）
+     *
+     * @param  key 键
+     * @return     不可变元素列表，不存在时返回空列表
+     */
+    public List<T> getAll(K key) {
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        if (groups != null) {
+            int[] group = groups.get(key);
+            return group == null ? Collections.emptyList() : new Slice(group[0], group[0] + group[1]);
+        }
+        return new Slice(lowerBound(key), upperBound(key));
+    }
+
+    /**
+     * 统计指定键的元素数量
+     *
+     * @param  key 键
+     * @return     元素数量
+     */
+    public int count(K key) {
+        if (key == null) {
+            return 0;
+        }
+        if (groups != null) {
+            int[] group = groups.get(key);
+            return group == null ? 0 : group[1];
+        }
+        return upperBound(key) - lowerBound(key);
+    }
+
+    /**
+     * 范围查询（仅有序索引），结果按键升序排列，键相同时保持原列表顺序
+     *
+     * @param  fromKey               起始键（包含），为null时不限下界
+     * @param  toKey                 结束键（不包含），为null时不限上界
+     * @return                       不可变元素列表
+     * @throws IllegalStateException 在哈希索引上调用时抛出
+     */
+    public List<T> range(K fromKey, K toKey) {
+        if (groups != null) {
+            throw new IllegalStateException("Range queries require a sorted index");
+        }
+        int from = fromKey == null ? 0 : lowerBound(fromKey);
+        int to = toKey == null ? order.length : lowerBound(toKey);
+        return from >= to ? Collections.emptyList() : new Slice(from, to);
+    }
+
+    /**
+     * 获取全部键（有序索引按升序排列）
+     *
+     * @return 不可变键集合
+     */
+    @SuppressWarnings("unchecked")
+    public Set<K> keys() {
+        if (groups != null) {
+            return Collections.unmodifiableSet(groups.keySet());
+        }
+        Set<K> keys = new LinkedHashSet<>();
+        for (Object key : sortedKeys) {
+            keys.add((K) key);
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * 获取被索引的元素数量（不含null元素和字段值为null的元素）
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        return order.length;
+    }
+
+    public boolean isSorted() {
+        return groups == null;
+    }
+
+    private static Object[] snapshot(List<?> list) {
+        return list == null ? new Object[0] : list.toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, T> FieldIndex<K, T> hash(Object[] elements, Function<T, K> keyExtractor) {
+        int length = elements.length;
+        Object[] keys = new Object[length];
+        Map<K, int[]> groups = HashMap.newHashMap(length);
+        int indexed = 0;
+        for (int i = 0; i < length; i++) {
+            if (elements[i] != null) {
+                K key = keyExtractor.apply((T) elements[i]);
+                if (key != null) {
+                    keys[i] = key;
+                    groups.computeIfAbsent(key, k -> new int[2])[1]++;
+                    indexed++;
+                }
+            }
+        }
+        int offset = 0;
+        for (int[] group : groups.values()) {
+            group[0] = offset;
+            offset += group[1];
+        }
+        // 以分组起点作为写入游标填充下标，完成后回退到起点
+        int[] order = new int[indexed];
+        for (int i = 0; i < length; i++) {
+            if (keys[i] != null) {
+                order[groups.get((K) keys[i])[0]++] = i;
+            }
+        }
+        for (int[] group : groups.values()) {
+            group[0] -= group[1];
+        }
+        return new FieldIndex<>(elements, order, groups, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, T> FieldIndex<K, T> sorted(Object[] elements, Function<T, K> keyExtractor,
+            Comparator<? super K> comparator) {
+        int length = elements.length;
+        Object[] keys = new Object[length];
+        int indexed = 0;
+        for (int i = 0; i < length; i++) {
+            if (elements[i] != null) {
+                keys[i] = keyExtractor.apply((T) elements[i]);
+                if (keys[i] != null) {
+                    indexed++;
+                }
+            }
+        }
+        Integer[] positions = new Integer[indexed];
+        for (int i = 0, j = 0; i < length; i++) {
+            if (keys[i] != null) {
+                positions[j++] = i;
+            }
+        }
+        // 稳定排序，键相同时保持原列表顺序
+        Arrays.sort(positions, (a, b) -> comparator.compare((K) keys[a], (K) keys[b]));
+        int[] order = new int[indexed];
+        Object[] sortedKeys = new Object[indexed];
+        for (int i = 0; i < indexed; i++) {
+            order[i] = positions[i];
+            sortedKeys[i] = keys[positions[i]];
+        }
+        return new FieldIndex<>(elements, order, null, sortedKeys, comparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareKey(int position, K key) {
+        return comparator.compare((K) sortedKeys[position], key);
+    }
+
+    /**
+     * 第一个不小于指定键的位置
+     */
+    private int lowerBound(K key) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKey(middle, key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 第一个大于指定键的位置
+     */
+    private int upperBound(K key) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareKey(middle, key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * order[from, to)对应元素的只读视图
+     */
+    private final class Slice extends AbstractList<T> implements RandomAccess {
+
+        private final int from;
+
+        private final int to;
+
+        private Slice(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, to - from);
+            return (T) elements[order[from + index]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.linearizability.common.collection;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * long哈希集合 开放寻址（线性探测）实现，表长为2的幂，元素直接存放在long[]中，不装箱也不创建节点。
+ * 0作为空槽标记，元素0单独记录。遍历顺序不保证与插入顺序一致。非线程安全
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class LongHashSet {
+
+    /**
+     * 最大负载因子
+     */
+    static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * 最小表长
+     */
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * 最大表长
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] table;
+
+    /**
+     * 表长减一，用于取模
+     */
+    private int mask;
+
+    /**
+     * 扩容阈值
+     */
+    private int threshold;
+
+    /**
+     * 表中非零元素数量
+     */
+    private int tableSize;
+
+    /**
+     * 是否包含元素0
+     */
+    private boolean containsZero;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * 创建可容纳指定数量元素而无需扩容的集合
+     *
+     * @param  expectedSize             预期元素数量
+     * @throws IllegalArgumentException 预期元素数量为负数时抛出
+     */
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative, but was: " + expectedSize);
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * 使用数组元素创建集合
+     *
+     * @param  values 元素
+     * @return        集合
+     */
+    public static LongHashSet of(long... values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param  value 元素
+     * @return       true表示元素原先不存在
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        int slot = slotOf(value);
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        if (++tableSize > threshold) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * 判断元素是否存在
+     *
+     * @param  value 元素
+     * @return       是否存在
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int slot = slotOf(value);
+        long current;
+        while ((current = table[slot]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 移除元素，移除后将同一探测链上的后续元素前移，不留删除标记
+     *
+     * @param  value 元素
+     * @return       true表示元素原先存在
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            boolean existed = containsZero;
+            containsZero = false;
+            return existed;
+        }
+        int slot = slotOf(value);
+        while (table[slot] != value) {
+            if (table[slot] == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        shiftBackFrom(slot);
+        tableSize--;
+        return true;
+    }
+
+    public int size() {
+        return tableSize + (containsZero ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 清空集合（保留已分配的表）
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        tableSize = 0;
+        containsZero = false;
+    }
+
+    /**
+     * 遍历元素
+     *
+     * @param action 元素处理器
+     */
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long value : table) {
+            if (value != 0) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * 复制为数组
+     *
+     * @return 元素数组
+     */
+    public long[] toArray() {
+        long[] result = new long[size()];
+        int index = 0;
+        if (containsZero) {
+            result[index++] = 0;
+        }
+        for (long value : table) {
+            if (value != 0) {
+                result[index++] = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 复制为升序数组，便于生成稳定的SQL IN条件
+     *
+     * @return 升序元素数组
+     */
+    public long[] toSortedArray() {
+        long[] result = toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    /**
+     * 转换为装箱集合，用于对接只接受Set&lt;Long&gt;的接口
+     *
+     * @return 装箱集合
+     */
+    public Set<Long> boxed() {
+        Set<Long> set = HashSet.newHashSet(size());
+        forEach(set::add);
+        return set;
+    }
+
+    private int slotOf(long value) {
+        return mix(value) & mask;
+    }
+
+    /**
+     * 散列扰动（斐波那契散列），避免连续ID聚集在相邻槽位
+     */
+    static int mix(long value) {
+        long hash = value * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * 计算可容纳指定数量元素的表长
+     */
+    static int tableSizeFor(int expectedSize) {
+        long required = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (required >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        if (table.length == MAX_CAPACITY) {
+            if (tableSize == MAX_CAPACITY - 1) {
+                throw new IllegalStateException("LongHashSet is full");
+            }
+            return;
+        }
+        long[] old = table;
+        allocate(capacity);
+        for (long value : old) {
+            if (value != 0) {
+                int slot = slotOf(value);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    /**
+     * 删除槽位后回填探测链，保证后续元素仍能从其理想槽位探测到
+     */
+    private void shiftBackFrom(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        long value;
+        while ((value = table[next]) != 0) {
+            int ideal = slotOf(value);
+            // 理想槽位不在(gap, next]区间内时，元素可以前移到空位
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                table[gap] = value;
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[gap] = 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongHashSet other) || size() != other.size() || containsZero != other.containsZero) {
+            return false;
+        }
+        for (long value : table) {
+            if (value != 0 && !other.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (long value : table) {
+            result += Long.hashCode(value);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,257 @@
+package com.linearizability.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * long列表 基于可扩容的long[]实现，元素不装箱，每个元素只占8字节，适用于大批量ID的收集与传递。非线程安全
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class LongList {
+
+    /**
+     * 默认初始容量
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] elements;
+
+    private int size;
+
+    public LongList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * 创建指定初始容量的列表
+     *
+     * @param  initialCapacity          初始容量
+     * @throws IllegalArgumentException 初始容量为负数时抛出
+     */
+    public LongList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity must not be negative, but was: " + initialCapacity);
+        }
+        this.elements = initialCapacity == 0 ? EMPTY : new long[initialCapacity];
+    }
+
+    /**
+     * 使用数组元素创建列表（复制数组）
+     *
+     * @param  values 元素
+     * @return        列表
+     */
+    public static LongList of(long... values) {
+        LongList list = new LongList(values.length);
+        System.arraycopy(values, 0, list.elements, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * 追加元素
+     *
+     * @param value 元素
+     */
+    public void add(long value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * 追加数组中的全部元素
+     *
+     * @param values 元素
+     */
+    public void addAll(long... values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * 获取指定位置的元素
+     *
+     * @param  index                     下标
+     * @return                           元素
+     * @throws IndexOutOfBoundsException 下标越界时抛出
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * 替换指定位置的元素
+     *
+     * @param  index                     下标
+     * @param  value                     新元素
+     * @return                           原元素
+     * @throws IndexOutOfBoundsException 下标越界时抛出
+     */
+    public long set(int index, long value) {
+        checkIndex(index);
+        long old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 清空列表（保留已分配的容量）
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 查找元素第一次出现的位置
+     *
+     * @param  value 元素
+     * @return       下标，不存在时返回-1
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * 确保容量不小于指定值
+     *
+     * @param minCapacity 最小容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * 升序排序
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * 遍历元素
+     *
+     * @param action 元素处理器
+     */
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * 复制为数组
+     *
+     * @return 元素数组
+     */
+    public long[] toArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * 按批次大小切分为多个数组，适用于SQL IN条件的分批查询
+     *
+     * @param  batchSize                批次大小
+     * @return                          批次数组列表，最后一批可能不足批次大小
+     * @throws IllegalArgumentException 批次大小不为正数时抛出
+     */
+    public List<long[]> partition(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, but was: " + batchSize);
+        }
+        List<long[]> batches = new ArrayList<>((size + batchSize - 1) / batchSize);
+        for (int from = 0; from < size; from += batchSize) {
+            batches.add(Arrays.copyOfRange(elements, from, Math.min(size, from + batchSize)));
+        }
+        return batches;
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * 转换为装箱列表，用于对接只接受List&lt;Long&gt;的接口
+     *
+     * @return 装箱列表
+     */
+    public List<Long> boxed() {
+        List<Long> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elements[i]);
+        }
+        return list;
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, elements.length == 0 ? DEFAULT_CAPACITY : elements.length * 2);
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongList other)) {
+            return false;
+        }
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(elements[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
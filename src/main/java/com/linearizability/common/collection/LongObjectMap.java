@@ -0,0 +1,418 @@
+package com.linearizability.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+/**
+ * long键映射 开放寻址（线性探测）实现，表长为2的幂，键存放在long[]中、值存放在Object[]中，不装箱键也不创建节点。
+ * 0作为空槽标记，键0单独记录。支持null值，需区分"不存在"与"值为null"时使用{@link #containsKey(long)}。
+ * 遍历顺序不保证与插入顺序一致。非线程安全
+ *
+ * @param  <V> 值类型
+ * @author     ZhangBoyuan
+ * @since      2026-10-19
+ */
+public class LongObjectMap<V> {
+
+    private long[] keys;
+
+    private Object[] values;
+
+    /**
+     * 表长减一，用于取模
+     */
+    private int mask;
+
+    /**
+     * 扩容阈值
+     */
+    private int threshold;
+
+    /**
+     * 表中非零键数量
+     */
+    private int tableSize;
+
+    /**
+     * 是否包含键0
+     */
+    private boolean containsZeroKey;
+
+    /**
+     * 键0对应的值
+     */
+    private V zeroValue;
+
+    public LongObjectMap() {
+        this(0);
+    }
+
+    /**
+     * 创建可容纳指定数量键值对而无需扩容的映射
+     *
+     * @param  expectedSize             预期键值对数量
+     * @throws IllegalArgumentException 预期数量为负数时抛出
+     */
+    public LongObjectMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative, but was: " + expectedSize);
+        }
+        allocate(LongHashSet.tableSizeFor(expectedSize));
+    }
+
+    /**
+     * 获取键对应的值
+     *
+     * @param  key 键
+     * @return     值，不存在时返回null
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * 获取键对应的值，不存在时返回默认值
+     *
+     * @param  key          键
+     * @param  defaultValue 默认值
+     * @return              值
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = indexOf(key);
+        return slot < 0 ? defaultValue : (V) values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return key == 0 ? containsZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * 放入键值对
+     *
+     * @param  key   键
+     * @param  value 值
+     * @return       原值，不存在时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0) {
+            V old = zeroValue;
+            containsZeroKey = true;
+            zeroValue = value;
+            return old;
+        }
+        int slot = LongHashSet.mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                V old = (V) values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        insertAt(slot, key, value);
+        return null;
+    }
+
+    /**
+     * 键不存在时放入键值对
+     *
+     * @param  key   键
+     * @param  value 值
+     * @return       true表示已放入，false表示键已存在
+     */
+    public boolean putIfAbsent(long key, V value) {
+        if (key == 0) {
+            if (containsZeroKey) {
+                return false;
+            }
+            containsZeroKey = true;
+            zeroValue = value;
+            return true;
+        }
+        int slot = LongHashSet.mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        insertAt(slot, key, value);
+        return true;
+    }
+
+    /**
+     * 获取键对应的值，不存在时使用映射函数创建并放入
+     *
+     * @param  key             键
+     * @param  mappingFunction 映射函数，返回null时不放入
+     * @return                 已有值或新创建的值
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                V value = mappingFunction.apply(key);
+                if (value != null) {
+                    containsZeroKey = true;
+                    zeroValue = value;
+                }
+            }
+            return zeroValue;
+        }
+        int slot = LongHashSet.mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            insertAt(slot, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 移除键值对，移除后将同一探测链上的后续键值对前移，不留删除标记
+     *
+     * @param  key 键
+     * @return     原值，不存在时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            V old = zeroValue;
+            containsZeroKey = false;
+            zeroValue = null;
+            return old;
+        }
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V old = (V) values[slot];
+        shiftBackFrom(slot);
+        tableSize--;
+        return old;
+    }
+
+    public int size() {
+        return tableSize + (containsZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 清空映射（保留已分配的表）
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        tableSize = 0;
+        containsZeroKey = false;
+        zeroValue = null;
+    }
+
+    /**
+     * 遍历键值对，键以原始类型传入
+     *
+     * @param action 键值对处理器
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjectConsumer<? super V> action) {
+        if (containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * 复制全部键
+     *
+     * @return 键数组
+     */
+    public long[] keys() {
+        long[] result = new long[size()];
+        int index = 0;
+        if (containsZeroKey) {
+            result[index++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 复制全部值，顺序与{@link #keys()}一致
+     *
+     * @return 值列表
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size());
+        forEach((key, value) -> result.add(value));
+        return result;
+    }
+
+    /**
+     * 转换为装箱键的HashMap，用于对接只接受Map&lt;Long, V&gt;的接口
+     *
+     * @return 装箱映射
+     */
+    public Map<Long, V> boxed() {
+        Map<Long, V> map = HashMap.newHashMap(size());
+        forEach(map::put);
+        return map;
+    }
+
+    private int indexOf(long key) {
+        int slot = LongHashSet.mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertAt(int slot, long key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++tableSize > threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = capacity == LongHashSet.MAX_CAPACITY ? capacity - 1 : (int) (capacity * LongHashSet.LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        if (keys.length == LongHashSet.MAX_CAPACITY) {
+            if (tableSize == LongHashSet.MAX_CAPACITY - 1) {
+                throw new IllegalStateException("LongObjectMap is full");
+            }
+            return;
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = LongHashSet.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 删除槽位后回填探测链，保证后续键仍能从其理想槽位探测到
+     */
+    private void shiftBackFrom(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        long key;
+        while ((key = keys[next]) != 0) {
+            int ideal = LongHashSet.mix(key) & mask;
+            // 理想槽位不在(gap, next]区间内时，键值对可以前移到空位
+            if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongObjectMap<?> other) || size() != other.size()) {
+            return false;
+        }
+        if (containsZeroKey && (!other.containsZeroKey || !Objects.equals(zeroValue, other.zeroValue))) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int slot = other.indexOf(keys[i]);
+                if (slot < 0 || !Objects.equals(values[i], other.values[slot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] result = {0};
+        forEach((key, value) -> result[0] += Long.hashCode(key) ^ Objects.hashCode(value));
+        return result[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 键值对处理器，键以原始类型传入
+     *
+     * @param <V> 值类型
+     */
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+
+        /**
+         * 处理单个键值对
+         *
+         * @param key   键
+         * @param value 值
+         */
+        void accept(long key, V value);
+    }
+}
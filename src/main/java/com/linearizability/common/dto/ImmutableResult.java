@@ -0,0 +1,133 @@
+package com.linearizability.common.dto;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.linearizability.common.enums.ResponseCodeEnum;
+import com.linearizability.common.util.DateUtil;
+
+/**
+ * 不可变的共享响应结果 按响应状态码预分配、没有数据的响应，所有setter抛出UnsupportedOperationException。
+ * 序列化时输出一个新建的快照，响应时间戳和响应时间取自同一次时钟读取；直接调用getter时各自取当前时间
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+final class ImmutableResult extends Result<Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 按响应状态码预分配的共享实例
+     */
+    private static final Map<ResponseCodeEnum, ImmutableResult> SHARED = createShared();
+
+    private ImmutableResult(ResponseCodeEnum codeEnum) {
+        super(codeEnum.getCode(), codeEnum.getCode() == SUCCESS_CODE ? null : codeEnum.name(), codeEnum.getDesc(),
+                null);
+    }
+
+    /**
+     * 获取响应状态码对应的共享实例
+     *
+     * @param  codeEnum 响应状态码（非null）
+     * @return          共享实例
+     */
+    static ImmutableResult shared(ResponseCodeEnum codeEnum) {
+        return SHARED.get(codeEnum);
+    }
+
+    private static Map<ResponseCodeEnum, ImmutableResult> createShared() {
+        Map<ResponseCodeEnum, ImmutableResult> shared = new EnumMap<>(ResponseCodeEnum.class);
+        for (ResponseCodeEnum codeEnum : ResponseCodeEnum.values()) {
+            shared.put(codeEnum, new ImmutableResult(codeEnum));
+        }
+        return shared;
+    }
+
+    /**
+     * 创建当前时刻的可变快照，用于序列化，保证同一次输出中的响应时间戳和响应时间一致
+     *
+     * @return 与共享实例字段相同的新响应
+     */
+    @JsonValue
+    Result<Object> snapshot() {
+        return new Result<>(getCode(), getErrorCode(), getMessage(), null);
+    }
+
+    @Override
+    public Long getTimestamp() {
+        return DateUtil.currentTimestamp();
+    }
+
+    @Override
+    public LocalDateTime getResponseTime() {
+        return DateUtil.now();
+    }
+
+    @Override
+    public void setCode(Integer code) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setErrorCode(String errorCode) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setMessage(String message) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setData(Object data) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setSuccess(Boolean success) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setResponseId(String responseId) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setTimestamp(Long timestamp) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setResponseTime(LocalDateTime responseTime) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCostTime(Long costTime) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setExtParams(Map<String, Object> extParams) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addExtParam(String key, Object value) {
+        throw unsupported();
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Shared result is immutable: " + getCode());
+    }
+}
@@ -0,0 +1,191 @@
+package com.linearizability.common.dto;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.linearizability.common.exception.ValidationException;
+import com.linearizability.common.util.JsonUtil;
+
+/**
+ * 键集分页游标 记录翻页边界行的排序键值和翻页方向，编码为不透明的Base64url字符串在请求和响应之间传递。
+ * 默认不包含边界行（查询条件为大于或小于），包含边界行的游标（查询条件为大于等于或小于等于）只在空页返回反方向游标时使用。
+ * 排序键值应为JSON基本类型（数字、字符串、布尔值），解码后整数为Integer、Long或BigInteger，小数为BigDecimal（不丢失精度），
+ * 其他类型需调用方自行转换
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class PageCursor {
+
+    private static final String KEYS_FIELD = "k";
+
+    private static final String DIRECTION_FIELD = "d";
+
+    private static final String FORWARD = "n";
+
+    private static final String BACKWARD = "p";
+
+    private static final String INCLUSIVE_FIELD = "i";
+
+    /**
+     * 游标读取器，小数按BigDecimal解析，避免金额等排序键经double转换后丢失精度导致翻页时漏行或重复
+     */
+    private static final ObjectReader READER = JsonUtil.getMapper()
+            .readerFor(Map.class)
+            .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    /**
+     * 边界行的排序键值
+     */
+    private final List<Object> keys;
+
+    /**
+     * true表示向后翻页（下一页），false表示向前翻页（上一页）
+     */
+    private final boolean forward;
+
+    /**
+     * 是否包含边界行本身
+     */
+    private final boolean inclusive;
+
+    private PageCursor(List<Object> keys, boolean forward, boolean inclusive) {
+        this.keys = keys;
+        this.forward = forward;
+        this.inclusive = inclusive;
+    }
+
+    /**
+     * 创建下一页游标
+     *
+     * @param  keys                     当前页最后一行的排序键值
+     * @return                          游标
+     * @throws IllegalArgumentException 排序键值为空时抛出
+     */
+    public static PageCursor next(List<?> keys) {
+        return new PageCursor(copyKeys(keys), true, false);
+    }
+
+    /**
+     * 创建包含边界行的下一页游标
+     *
+     * @param  keys                     下一页第一行的排序键值
+     * @return                          游标
+     * @throws IllegalArgumentException 排序键值为空时抛出
+     */
+    public static PageCursor nextInclusive(List<?> keys) {
+        return new PageCursor(copyKeys(keys), true, true);
+    }
+
+    /**
+     * 创建上一页游标
+     *
+     * @param  keys                     当前页第一行的排序键值
+     * @return                          游标
+     * @throws IllegalArgumentException 排序键值为空时抛出
+     */
+    public static PageCursor previous(List<?> keys) {
+        return new PageCursor(copyKeys(keys), false, false);
+    }
+
+    /**
+     * 创建包含边界行的上一页游标
+     *
+     * @param  keys                     上一页最后一行的排序键值
+     * @return                          游标
+     * @throws IllegalArgumentException 排序键值为空时抛出
+     */
+    public static PageCursor previousInclusive(List<?> keys) {
+        return new PageCursor(copyKeys(keys), false, true);
+    }
+
+    /**
+     * 解码游标
+     *
+     * @param  cursor              编码后的游标
+     * @return                     游标，参数为空时返回null
+     * @throws ValidationException 游标格式无效时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> map;
+        try {
+            map = READER.readValue(Base64.getUrlDecoder().decode(cursor));
+        } catch (IOException | RuntimeException e) {
+            throw invalid(cursor);
+        }
+        Object keys = map == null ? null : map.get(KEYS_FIELD);
+        Object direction = map == null ? null : map.get(DIRECTION_FIELD);
+        Object inclusive = map == null ? null : map.get(INCLUSIVE_FIELD);
+        if (!(keys instanceof List<?> list) || list.isEmpty()
+                || !(FORWARD.equals(direction) || BACKWARD.equals(direction))
+                || !(inclusive == null || inclusive instanceof Boolean)) {
+            throw invalid(cursor);
+        }
+        return new PageCursor(Collections.unmodifiableList((List<Object>) list), FORWARD.equals(direction),
+                Boolean.TRUE.equals(inclusive));
+    }
+
+    /**
+     * 编码游标
+     *
+     * @return Base64url编码（无填充）的游标字符串
+     */
+    public String encode() {
+        Map<String, Object> map = new LinkedHashMap<>(4);
+        map.put(KEYS_FIELD, keys);
+        map.put(DIRECTION_FIELD, forward ? FORWARD : BACKWARD);
+        if (inclusive) {
+            map.put(INCLUSIVE_FIELD, true);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(JsonUtil.toJsonBytes(map));
+    }
+
+    public List<Object> getKeys() {
+        return keys;
+    }
+
+    /**
+     * 判断是否向后翻页（下一页）
+     *
+     * @return true表示下一页，false表示上一页
+     */
+    public boolean isForward() {
+        return forward;
+    }
+
+    /**
+     * 判断游标是否包含边界行本身
+     *
+     * @return true表示查询条件为大于等于（下一页）或小于等于（上一页），false表示大于或小于
+     */
+    public boolean isInclusive() {
+        return inclusive;
+    }
+
+    private static List<Object> copyKeys(List<?> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("keys must not be empty");
+        }
+        return Collections.unmodifiableList(new ArrayList<>(keys));
+    }
+
+    private static ValidationException invalid(String cursor) {
+        return new ValidationException(ValidationException.DEFAULT_CODE, "Invalid page cursor: " + cursor);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{" + "keys=" + keys + ", forward=" + forward + ", inclusive=" + inclusive + '}';
+    }
+}
@@ -1,6 +1,7 @@
 package com.linearizability.common.dto;
 
 import com.linearizability.common.base.BaseRequest;
+import com.linearizability.common.exception.ValidationException;
 
 /**
  * 分页请求类 继承自BaseRequest，提供分页相关的通用字段
@@ -52,6 +53,11 @@ public class PageRequest extends BaseRequest {
      */
     private Boolean needTotal = true;
 
+    /**
+     * 键集分页游标（上一次响应返回的nextCursor或prevCursor），为空时表示第一页
+     */
+    private String cursor;
+
     public PageRequest() {
         super();
         this.pageNum = DEFAULT_PAGE_NUM;
@@ -130,6 +136,34 @@ public class PageRequest extends BaseRequest {
         this.needTotal = needTotal;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * 解码键集分页游标 游标为下一页时查询排序键在游标键值之后的行（按排序方向），为上一页时按相反方向查询游标键值之前的行，
+     * 游标isInclusive()时包含键值等于游标键值的行
+     *
+     * @return                     游标，没有游标（第一页）时返回null
+     * @throws ValidationException 游标格式无效时抛出
+     */
+    public PageCursor decodeCursor() {
+        return PageCursor.decode(cursor);
+    }
+
+    /**
+     * 获取键集分页的查询行数（每页大小加1，多出的一行用于判断是否还有更多数据，无需查询总数）
+     *
+     * @return 查询行数
+     */
+    public Integer getKeysetLimit() {
+        return getPageSize() + 1;
+    }
+
     /**
      * 获取偏移量（用于数据库查询）
      *
@@ -160,6 +194,7 @@ public class PageRequest extends BaseRequest {
     @Override
     public String toString() {
         return "PageRequest{" + "pageNum=" + pageNum + ", pageSize=" + pageSize + ", orderBy='" + orderBy + '\''
-                + ", orderDirection='" + orderDirection + '\'' + ", needTotal=" + needTotal + "} " + super.toString();
+                + ", orderDirection='" + orderDirection + '\'' + ", needTotal=" + needTotal + ", cursor='" + cursor
+                + '\'' + "} " + super.toString();
     }
 }
@@ -1,7 +1,11 @@
 package com.linearizability.common.dto;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+
+import com.linearizability.common.exception.ValidationException;
 
 /**
  * 分页响应结果类 继承自Result，用于封装分页查询的响应结果
@@ -65,6 +69,58 @@ public class PageResult<T> extends Result<List<T>> {
         return success(data, pageInfo);
     }
 
+    /**
+     * 创建键集分页响应 rows为按pageRequest.getKeysetLimit()（每页大小加1）查询到的行：第一页和下一页按排序方向查询，
+     * 上一页按相反方向查询（本方法会将其反转为排序方向），游标isInclusive()时查询条件包含边界行。
+     * 多出的一行只用于判断是否还有更多数据，不返回；不查询总数，total和totalPages为null
+     *
+     * @param  rows                按键集条件查询到的行（最多每页大小加1行）
+     * @param  pageRequest         分页请求（携带上一次响应返回的游标，第一页为空）
+     * @param  keyExtractor        排序键提取函数，返回值的顺序与ORDER BY列的顺序一致
+     * @param  <T>                 数据类型
+     * @return                     分页响应结果，PageInfo中携带nextCursor和prevCursor
+     * @throws ValidationException 请求中的游标格式无效时抛出
+     */
+    public static <T> PageResult<T> keyset(List<T> rows, PageRequest pageRequest,
+            Function<? super T, List<?>> keyExtractor) {
+        PageCursor cursor = pageRequest.decodeCursor();
+        boolean forward = cursor == null || cursor.isForward();
+        int pageSize = pageRequest.getPageSize();
+        boolean hasMore = rows.size() > pageSize;
+        int size = Math.min(rows.size(), pageSize);
+        List<T> data = new ArrayList<>(size);
+        if (forward) {
+            data.addAll(rows.subList(0, size));
+        } else {
+            for (int i = size - 1; i >= 0; i--) {
+                data.add(rows.get(i));
+            }
+        }
+        // 向后翻页时是否有下一页取决于多出的一行，向前翻页时游标所在行之后必然还有数据，反之亦然
+        boolean hasNext = !forward || hasMore;
+        boolean hasPrevious = forward ? cursor != null : hasMore;
+        PageInfo pageInfo = new PageInfo();
+        pageInfo.setPageSize(pageSize);
+        pageInfo.setHasNext(hasNext);
+        pageInfo.setHasPrevious(hasPrevious);
+        if (data.isEmpty()) {
+            // 空页没有边界行，以请求游标的键值作为反方向翻页的边界；该键值所在行属于反方向的页，因此需包含边界行
+            if (cursor != null && forward) {
+                pageInfo.setPrevCursor(PageCursor.previousInclusive(cursor.getKeys()).encode());
+            } else if (cursor != null) {
+                pageInfo.setNextCursor(PageCursor.nextInclusive(cursor.getKeys()).encode());
+            }
+        } else {
+            if (hasNext) {
+                pageInfo.setNextCursor(PageCursor.next(keyExtractor.apply(data.getLast())).encode());
+            }
+            if (hasPrevious) {
+                pageInfo.setPrevCursor(PageCursor.previous(keyExtractor.apply(data.getFirst())).encode());
+            }
+        }
+        return success(data, pageInfo);
+    }
+
     public PageInfo getPageInfo() {
         return pageInfo;
     }
@@ -115,6 +171,16 @@ public class PageResult<T> extends Result<List<T>> {
          */
         private Boolean hasNext;
 
+        /**
+         * 下一页游标（键集分页）
+         */
+        private String nextCursor;
+
+        /**
+         * 上一页游标（键集分页）
+         */
+        private String prevCursor;
+
         public PageInfo() {
         }
 
@@ -175,10 +241,27 @@ public class PageResult<T> extends Result<List<T>> {
             this.hasNext = hasNext;
         }
 
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public void setNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+        }
+
+        public String getPrevCursor() {
+            return prevCursor;
+        }
+
+        public void setPrevCursor(String prevCursor) {
+            this.prevCursor = prevCursor;
+        }
+
         @Override
         public String toString() {
             return "PageInfo{" + "pageNum=" + pageNum + ", pageSize=" + pageSize + ", total=" + total + ", totalPages="
-                    + totalPages + ", hasPrevious=" + hasPrevious + ", hasNext=" + hasNext + '}';
+                    + totalPages + ", hasPrevious=" + hasPrevious + ", hasNext=" + hasNext + ", nextCursor='"
+                    + nextCursor + '\'' + ", prevCursor='" + prevCursor + '\'' + '}';
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.linearizability.common.dto;
 
 import com.linearizability.common.base.BaseResponse;
+import com.linearizability.common.enums.ResponseCodeEnum;
 import com.linearizability.common.exception.BaseException;
 
 /**
@@ -189,6 +190,39 @@ public class Result<T> extends BaseResponse {
         return result;
     }
 
+    /**
+     * 获取响应状态码对应的共享响应（无数据） 每次返回同一个不可变实例，不分配对象；状态码为枚举编码，
+     * 消息为枚举描述，失败时业务错误码为枚举名称。每次序列化时输出取自同一次时钟读取的响应时间戳和响应时间，
+     * 调用任何setter将抛出UnsupportedOperationException
+     *
+     * @param  codeEnum                 响应状态码
+     * @param  <T>                      数据类型
+     * @return                          共享响应结果
+     * @throws IllegalArgumentException 响应状态码为null时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Result<T> of(ResponseCodeEnum codeEnum) {
+        if (codeEnum == null) {
+            throw new IllegalArgumentException("codeEnum must not be null");
+        }
+        return (Result<T>) ImmutableResult.shared(codeEnum);
+    }
+
+    /**
+     * 失败响应（共享实例），与{@link #of(ResponseCodeEnum)}相同
+     *
+     * @param  codeEnum                 响应状态码（不能是SUCCESS）
+     * @param  <T>                      数据类型
+     * @return                          共享响应结果
+     * @throws IllegalArgumentException 响应状态码为null或SUCCESS时抛出
+     */
+    public static <T> Result<T> fail(ResponseCodeEnum codeEnum) {
+        if (codeEnum == ResponseCodeEnum.SUCCESS) {
+            throw new IllegalArgumentException("fail requires a failure code, but was: " + codeEnum);
+        }
+        return of(codeEnum);
+    }
+
     /**
      * 从异常创建失败响应
      *
@@ -0,0 +1,40 @@
+package com.linearizability.common.enums;
+
+import com.linearizability.common.base.BaseEnum;
+
+/**
+ * 排序方向枚举
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public enum SortOrderEnum implements BaseEnum<String> {
+
+    /**
+     * 升序
+     */
+    ASC("asc", "升序"),
+
+    /**
+     * 降序
+     */
+    DESC("desc", "降序");
+
+    private final String code;
+    private final String desc;
+
+    SortOrderEnum(String code, String desc) {
+        this.code = code;
+        this.desc = desc;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getDesc() {
+        return desc;
+    }
+}
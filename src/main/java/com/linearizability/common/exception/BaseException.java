@@ -25,6 +25,11 @@ public class BaseException extends RuntimeException {
      */
     private Object data;
 
+    /**
+     * 是否为共享实例（共享实例不可修改）
+     */
+    private transient boolean shared;
+
     public BaseException() {
         super();
     }
@@ -60,11 +65,45 @@ public class BaseException extends RuntimeException {
         this.data = data;
     }
 
+    /**
+     * 可选择是否记录堆栈的构造函数 不记录堆栈时同时禁用异常抑制，创建和抛出的开销接近普通对象分配，
+     * 适用于作为业务控制流频繁抛出的异常，getStackTrace()返回空数组
+     *
+     * @param code               错误码
+     * @param message            错误消息
+     * @param data               错误详情
+     * @param cause              原因
+     * @param writableStackTrace 是否记录堆栈
+     */
+    protected BaseException(String code, String message, Object data, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, writableStackTrace, writableStackTrace);
+        this.code = code;
+        this.message = message;
+        this.data = data;
+    }
+
+    /**
+     * 标记为共享实例，之后调用setter将抛出UnsupportedOperationException 仅用于不记录堆栈的预分配实例
+     */
+    protected void markShared() {
+        this.shared = true;
+    }
+
+    /**
+     * 判断是否为共享实例
+     *
+     * @return true表示共享实例，不可修改
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
     public String getCode() {
         return code;
     }
 
     public void setCode(String code) {
+        checkNotShared();
         this.code = code;
     }
 
@@ -74,6 +113,7 @@ public class BaseException extends RuntimeException {
     }
 
     public void setMessage(String message) {
+        checkNotShared();
         this.message = message;
     }
 
@@ -82,9 +122,16 @@ public class BaseException extends RuntimeException {
     }
 
     public void setData(Object data) {
+        checkNotShared();
         this.data = data;
     }
 
+    private void checkNotShared() {
+        if (shared) {
+            throw new UnsupportedOperationException("Shared exception instance is immutable: " + code);
+        }
+    }
+
     @Override
     public String toString() {
         return "BaseException{" + "code=" + code + ", message='" + message + '\'' + ", data=" + data + '}';
@@ -1,5 +1,10 @@
 package com.linearizability.common.exception;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.linearizability.common.enums.ResponseCodeEnum;
+
 /**
  * 业务异常类 用于处理业务逻辑相关的异常
  *
@@ -15,6 +20,11 @@ public class BusinessException extends BaseException {
      */
     public static final String DEFAULT_CODE = "BUSINESS_ERROR";
 
+    /**
+     * 按响应状态码预分配的共享异常（不记录堆栈）
+     */
+    private static final Map<ResponseCodeEnum, BusinessException> SHARED = createShared();
+
     public BusinessException(String message) {
         super(DEFAULT_CODE, message);
     }
@@ -34,4 +44,58 @@ public class BusinessException extends BaseException {
     public BusinessException(String code, String message, Object data, Throwable cause) {
         super(code, message, data, cause);
     }
+
+    /**
+     * 不记录堆栈的构造函数
+     *
+     * @param code               错误码
+     * @param message            错误消息
+     * @param data               错误详情
+     * @param cause              原因
+     * @param writableStackTrace 是否记录堆栈
+     */
+    protected BusinessException(String code, String message, Object data, Throwable cause,
+            boolean writableStackTrace) {
+        super(code, message, data, cause, writableStackTrace);
+    }
+
+    /**
+     * 创建不记录堆栈的业务异常 适用于作为控制流频繁抛出的业务失败（如余额不足）
+     *
+     * @param  code    错误码
+     * @param  message 错误消息
+     * @return         业务异常
+     */
+    public static BusinessException stackless(String code, String message) {
+        return new BusinessException(code, message, null, null, false);
+    }
+
+    /**
+     * 获取响应状态码对应的共享业务异常 错误码为枚举名称，错误消息为枚举描述，不记录堆栈，每次返回同一个实例，
+     * 不可修改（setter抛出UnsupportedOperationException）
+     *
+     * @param  codeEnum                 响应状态码（不能是SUCCESS）
+     * @return                          共享业务异常
+     * @throws IllegalArgumentException 响应状态码为null或SUCCESS时抛出
+     */
+    public static BusinessException of(ResponseCodeEnum codeEnum) {
+        if (codeEnum == null || codeEnum == ResponseCodeEnum.SUCCESS) {
+            throw new IllegalArgumentException("codeEnum must be a failure code, but was: " + codeEnum);
+        }
+        return SHARED.get(codeEnum);
+    }
+
+    private static Map<ResponseCodeEnum, BusinessException> createShared() {
+        Map<ResponseCodeEnum, BusinessException> shared = new EnumMap<>(ResponseCodeEnum.class);
+        for (ResponseCodeEnum codeEnum : ResponseCodeEnum.values()) {
+            if (codeEnum == ResponseCodeEnum.SUCCESS) {
+                continue;
+            }
+            BusinessException exception = new BusinessException(codeEnum.name(), codeEnum.getDesc(), null, null,
+                    false);
+            exception.markShared();
+            shared.put(codeEnum, exception);
+        }
+        return shared;
+    }
 }
@@ -34,4 +34,18 @@ public class SystemException extends BaseException {
     public SystemException(String code, String message, Object data, Throwable cause) {
         super(code, message, data, cause);
     }
+
+    /**
+     * 可选择是否记录堆栈的构造函数，供子类使用
+     *
+     * @param code               错误码
+     * @param message            错误消息
+     * @param data               错误详情
+     * @param cause              原因
+     * @param writableStackTrace 是否记录堆栈
+     */
+    protected SystemException(String code, String message, Object data, Throwable cause,
+            boolean writableStackTrace) {
+        super(code, message, data, cause, writableStackTrace);
+    }
 }
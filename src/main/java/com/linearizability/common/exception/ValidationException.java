@@ -34,4 +34,30 @@ public class ValidationException extends BaseException {
     public ValidationException(String code, String message, Object data, Throwable cause) {
         super(code, message, data, cause);
     }
+
+    /**
+     * 不记录堆栈的构造函数
+     *
+     * @param code               错误码
+     * @param message            错误消息
+     * @param data               错误详情
+     * @param cause              原因
+     * @param writableStackTrace 是否记录堆栈
+     */
+    protected ValidationException(String code, String message, Object data, Throwable cause,
+            boolean writableStackTrace) {
+        super(code, message, data, cause, writableStackTrace);
+    }
+
+    /**
+     * 创建不记录堆栈的参数验证异常 适用于批量校验等频繁抛出的场景
+     *
+     * @param  code    错误码
+     * @param  message 错误消息
+     * @param  data    错误详情
+     * @return         参数验证异常
+     */
+    public static ValidationException stackless(String code, String message, Object data) {
+        return new ValidationException(code, message, data, null, false);
+    }
 }
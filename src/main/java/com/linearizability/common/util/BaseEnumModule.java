@@ -0,0 +1,155 @@
+package com.linearizability.common.util;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.ClassUtil;
+import com.linearizability.common.base.BaseEnum;
+
+/**
+ * BaseEnum的Jackson模块 实现BaseEnum的枚举序列化为编码，反序列化时通过按枚举类缓存的查找索引匹配编码：
+ * 整数编码直接寻址不装箱，long编码和字符串编码一次哈希查找；编码未匹配时按枚举名称匹配
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class BaseEnumModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 枚举序列化器（无状态，所有枚举类共用）
+     */
+    private static final BaseEnumSerializer SERIALIZER = new BaseEnumSerializer();
+
+    public BaseEnumModule() {
+        super(BaseEnumModule.class.getSimpleName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addSerializers(new Serializers.Base() {
+
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type,
+                    BeanDescription beanDesc) {
+                return isBaseEnum(type.getRawClass()) ? SERIALIZER : null;
+            }
+        });
+        context.addDeserializers(new Deserializers.Base() {
+
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public JsonDeserializer<?> findEnumDeserializer(Class<?> type, DeserializationConfig config,
+                    BeanDescription beanDesc) {
+                return isBaseEnum(type) ? new BaseEnumDeserializer(ClassUtil.findEnumType(type)) : null;
+            }
+        });
+    }
+
+    /**
+     * 判断是否为BaseEnum枚举 带类体的枚举常量是枚举类的匿名子类，isEnum()为false，因此按Enum的子类判断
+     */
+    private static boolean isBaseEnum(Class<?> type) {
+        return Enum.class.isAssignableFrom(type) && BaseEnum.class.isAssignableFrom(type);
+    }
+
+    /**
+     * 枚举序列化器：输出编码，整数和字符串编码直接写出
+     */
+    private static final class BaseEnumSerializer extends StdSerializer<BaseEnum<?>> {
+
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private BaseEnumSerializer() {
+            super((Class) BaseEnum.class);
+        }
+
+        @Override
+        public void serialize(BaseEnum<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Object code = value.getCode();
+            switch (code) {
+                case null -> gen.writeNull();
+                case Integer intCode -> gen.writeNumber(intCode);
+                case Long longCode -> gen.writeNumber(longCode);
+                case String stringCode -> gen.writeString(stringCode);
+                default -> provider.defaultSerializeValue(code, gen);
+            }
+        }
+    }
+
+    /**
+     * 枚举反序列化器：整数令牌按int/long编码查找，字符串令牌按编码查找，均未匹配时按枚举名称匹配
+     *
+     * @param <T> 枚举类型
+     */
+    private static final class BaseEnumDeserializer<T extends Enum<T> & BaseEnum<?>>
+            extends StdScalarDeserializer<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Class<T> type;
+
+        private BaseEnumDeserializer(Class<T> type) {
+            super(type);
+            this.type = type;
+        }
+
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                Optional<T> result = switch (p.getNumberType()) {
+                    case INT -> BaseEnum.findByIntCode(type, p.getIntValue());
+                    case LONG -> BaseEnum.findByLongCode(type, p.getLongValue());
+                    default -> BaseEnum.findByCode(type, p.getText());
+                };
+                return result.isPresent() ? result.get() : unknownNumber(p, ctxt);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                String text = p.getText();
+                Optional<T> result = BaseEnum.findByCode(type, text);
+                if (result.isEmpty()) {
+                    result = BaseEnum.find(type, constant -> constant.name().equals(text));
+                }
+                return result.isPresent() ? result.get() : unknownString(text, ctxt);
+            }
+            return type.cast(ctxt.handleUnexpectedToken(type, p));
+        }
+
+        private T unknownNumber(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (ctxt.isEnabled(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)) {
+                return null;
+            }
+            return type.cast(ctxt.handleWeirdNumberValue(type, p.getNumberValue(),
+                    "not one of the codes of " + type.getName()));
+        }
+
+        private T unknownString(String text, DeserializationContext ctxt) throws IOException {
+            if (ctxt.isEnabled(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL)) {
+                return null;
+            }
+            return type.cast(ctxt.handleWeirdStringValue(type, text,
+                    "not one of the codes or names of " + type.getName()));
+        }
+    }
+}
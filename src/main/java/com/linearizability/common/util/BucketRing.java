@@ -0,0 +1,283 @@
+package com.linearizability.common.util;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 分桶累加环 固定容量的环形数组，按桶序号保存最近N个时间桶的计数、求和、最小值和最大值，所有状态均为原始数组，
+ * 事件聚合过程中不创建对象。桶序号超出窗口时最旧的桶被淘汰（可通过淘汰监听器输出），早于窗口的迟到事件被丢弃。
+ * 非线程安全，多线程写入时需按线程分片或外部加锁
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class BucketRing {
+
+    /**
+     * 容量
+     */
+    private final int capacity;
+
+    /**
+     * 时间戳到桶序号的映射，要求随时间单调不减
+     */
+    private final LongUnaryOperator indexFunction;
+
+    /**
+     * 时间戳到桶开始时间的映射，仅在新桶创建时调用
+     */
+    private final LongUnaryOperator startFunction;
+
+    private final long[] indexes;
+
+    private final long[] starts;
+
+    private final long[] counts;
+
+    private final long[] sums;
+
+    private final long[] mins;
+
+    private final long[] maxs;
+
+    /**
+     * 当前最大桶序号
+     */
+    private long maxIndex = Long.MIN_VALUE;
+
+    /**
+     * 丢弃的迟到事件数量
+     */
+    private long droppedCount;
+
+    /**
+     * 淘汰监听器
+     */
+    private BucketConsumer evictionListener;
+
+    /**
+     * 创建分桶累加环
+     *
+     * @param  capacity                 容量（保留的桶数量）
+     * @param  indexFunction            时间戳到桶序号的映射，要求随时间单调不减
+     * @param  startFunction            时间戳到桶开始时间的映射
+     * @throws IllegalArgumentException 容量不为正数时抛出
+     */
+    public BucketRing(int capacity, LongUnaryOperator indexFunction, LongUnaryOperator startFunction) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive, but was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.indexFunction = indexFunction;
+        this.startFunction = startFunction;
+        this.indexes = new long[capacity];
+        this.starts = new long[capacity];
+        this.counts = new long[capacity];
+        this.sums = new long[capacity];
+        this.mins = new long[capacity];
+        this.maxs = new long[capacity];
+        Arrays.fill(indexes, Long.MIN_VALUE);
+    }
+
+    /**
+     * 创建固定大小的滚动窗口累加环
+     *
+     * @param  capacity                 容量（保留的桶数量）
+     * @param  sizeMillis               桶大小（毫秒）
+     * @return                          分桶累加环
+     * @throws IllegalArgumentException 参数不为正数时抛出
+     */
+    public static BucketRing tumbling(int capacity, long sizeMillis) {
+        if (sizeMillis <= 0) {
+            throw new IllegalArgumentException("sizeMillis must be positive, but was: " + sizeMillis);
+        }
+        return new BucketRing(capacity, timestamp -> Math.floorDiv(timestamp, sizeMillis),
+                timestamp -> TimeBucketUtil.tumblingWindowStart(timestamp, sizeMillis));
+    }
+
+    /**
+     * 创建按时区自然日分桶的累加环
+     *
+     * @param  capacity 容量（保留的天数）
+     * @param  zoneId   时区
+     * @return          分桶累加环
+     */
+    public static BucketRing daily(int capacity, ZoneId zoneId) {
+        return new BucketRing(capacity, timestamp -> TimeBucketUtil.dayIndex(timestamp, zoneId),
+                timestamp -> TimeBucketUtil.dayStart(timestamp, zoneId));
+    }
+
+    /**
+     * 创建按时区自然周（周一开始）分桶的累加环
+     *
+     * @param  capacity 容量（保留的周数）
+     * @param  zoneId   时区
+     * @return          分桶累加环
+     */
+    public static BucketRing weekly(int capacity, ZoneId zoneId) {
+        return new BucketRing(capacity, timestamp -> TimeBucketUtil.weekIndex(timestamp, zoneId),
+                timestamp -> TimeBucketUtil.weekStart(timestamp, zoneId));
+    }
+
+    /**
+     * 创建按时区自然月分桶的累加环
+     *
+     * @param  capacity 容量（保留的月数）
+     * @param  zoneId   时区
+     * @return          分桶累加环
+     */
+    public static BucketRing monthly(int capacity, ZoneId zoneId) {
+        return new BucketRing(capacity, timestamp -> TimeBucketUtil.monthIndex(timestamp, zoneId),
+                timestamp -> TimeBucketUtil.monthStart(timestamp, zoneId));
+    }
+
+    /**
+     * 设置淘汰监听器，桶被淘汰前回调
+     *
+     * @param  listener 淘汰监听器
+     * @return          当前累加环
+     */
+    public BucketRing onEvict(BucketConsumer listener) {
+        this.evictionListener = listener;
+        return this;
+    }
+
+    /**
+     * 累加事件
+     *
+     * @param  timestamp 事件时间戳（毫秒）
+     * @param  value     事件值
+     * @return           true表示已累加，false表示事件早于窗口被丢弃
+     */
+    public boolean add(long timestamp, long value) {
+        long index = indexFunction.applyAsLong(timestamp);
+        if (index > maxIndex) {
+            advanceTo(index);
+        } else if (index <= maxIndex - capacity) {
+            droppedCount++;
+            return false;
+        }
+        int slot = (int) Math.floorMod(index, (long) capacity);
+        if (indexes[slot] != index) {
+            resetSlot(slot, index, startFunction.applyAsLong(timestamp));
+        }
+        counts[slot]++;
+        sums[slot] += value;
+        if (value < mins[slot]) {
+            mins[slot] = value;
+        }
+        if (value > maxs[slot]) {
+            maxs[slot] = value;
+        }
+        return true;
+    }
+
+    /**
+     * 累加计数（值为1）
+     *
+     * @param  timestamp 事件时间戳（毫秒）
+     * @return           true表示已累加，false表示事件早于窗口被丢弃
+     */
+    public boolean increment(long timestamp) {
+        return add(timestamp, 1);
+    }
+
+    /**
+     * 按桶序号升序遍历窗口内的非空桶
+     *
+     * @param consumer 桶消费者
+     */
+    public void forEach(BucketConsumer consumer) {
+        if (maxIndex == Long.MIN_VALUE) {
+            return;
+        }
+        for (long index = maxIndex - capacity + 1; index <= maxIndex; index++) {
+            int slot = (int) Math.floorMod(index, (long) capacity);
+            if (indexes[slot] == index && counts[slot] > 0) {
+                consumer.accept(starts[slot], counts[slot], sums[slot], mins[slot], maxs[slot]);
+            }
+        }
+    }
+
+    /**
+     * 淘汰全部桶（依次回调淘汰监听器）并清空累加环
+     */
+    public void flush() {
+        if (evictionListener != null) {
+            forEach(evictionListener);
+        }
+        Arrays.fill(indexes, Long.MIN_VALUE);
+        Arrays.fill(counts, 0);
+        maxIndex = Long.MIN_VALUE;
+    }
+
+    /**
+     * 获取容量
+     *
+     * @return 容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 获取丢弃的迟到事件数量
+     *
+     * @return 丢弃数量
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * 推进窗口到指定桶序号，淘汰滑出窗口的桶
+     */
+    private void advanceTo(long index) {
+        if (maxIndex != Long.MIN_VALUE) {
+            long last = Math.min(maxIndex, index - capacity);
+            for (long evicted = maxIndex - capacity + 1; evicted <= last; evicted++) {
+                int slot = (int) Math.floorMod(evicted, (long) capacity);
+                if (indexes[slot] == evicted) {
+                    evict(slot);
+                }
+            }
+        }
+        maxIndex = index;
+    }
+
+    private void evict(int slot) {
+        if (evictionListener != null && counts[slot] > 0) {
+            evictionListener.accept(starts[slot], counts[slot], sums[slot], mins[slot], maxs[slot]);
+        }
+        indexes[slot] = Long.MIN_VALUE;
+        counts[slot] = 0;
+    }
+
+    private void resetSlot(int slot, long index, long start) {
+        indexes[slot] = index;
+        starts[slot] = start;
+        counts[slot] = 0;
+        sums[slot] = 0;
+        mins[slot] = Long.MAX_VALUE;
+        maxs[slot] = Long.MIN_VALUE;
+    }
+
+    /**
+     * 桶消费者，以原始类型回调桶的聚合结果
+     */
+    @FunctionalInterface
+    public interface BucketConsumer {
+
+        /**
+         * 处理单个桶
+         *
+         * @param start 桶开始时间（毫秒）
+         * @param count 事件数量
+         * @param sum   事件值之和
+         * @param min   最小值
+         * @param max   最大值
+         */
+        void accept(long start, long count, long sum, long min, long max);
+    }
+}
@@ -0,0 +1,193 @@
+package com.linearizability.common.util;
+
+import java.time.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 粗粒度时钟 由单个后台线程按固定精度刷新当前时间，并通过volatile字段发布毫秒时间戳、LocalDateTime和LocalDate，
+ * 热点路径读取时无需系统调用和对象分配，适用于对时间精度要求不高的高频调用场景
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    /**
+     * 最小刷新精度（毫秒）
+     */
+    public static final long MIN_RESOLUTION_MILLIS = 1;
+
+    /**
+     * 时区
+     */
+    private final ZoneId zone;
+
+    /**
+     * 刷新精度（毫秒）
+     */
+    private final long resolutionMillis;
+
+    /**
+     * 后台刷新线程
+     */
+    private final ScheduledExecutorService ticker;
+
+    /**
+     * 当前时间快照
+     */
+    private volatile Snapshot snapshot;
+
+    private CoarseClock(long resolutionMillis, ZoneId zone) {
+        if (resolutionMillis < MIN_RESOLUTION_MILLIS) {
+            throw new IllegalArgumentException("Resolution must be at least 1ms, but was: " + resolutionMillis);
+        }
+        this.zone = zone == null ? DateUtil.DEFAULT_ZONE : zone;
+        this.resolutionMillis = resolutionMillis;
+        this.snapshot = createSnapshot(System.currentTimeMillis(), null);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-clock-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::tick, resolutionMillis, resolutionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 启动粗粒度时钟（默认时区）
+     *
+     * @param  resolutionMillis         刷新精度（毫秒），常用1ms或10ms
+     * @return                          粗粒度时钟
+     * @throws IllegalArgumentException 精度小于1ms时抛出
+     */
+    public static CoarseClock start(long resolutionMillis) {
+        return new CoarseClock(resolutionMillis, DateUtil.DEFAULT_ZONE);
+    }
+
+    /**
+     * 启动粗粒度时钟（指定时区）
+     *
+     * @param  resolutionMillis         刷新精度（毫秒），常用1ms或10ms
+     * @param  zone                     时区
+     * @return                          粗粒度时钟
+     * @throws IllegalArgumentException 精度小于1ms时抛出
+     */
+    public static CoarseClock start(long resolutionMillis, ZoneId zone) {
+        return new CoarseClock(resolutionMillis, zone);
+    }
+
+    /**
+     * 刷新时间快照，同一毫秒内不重复创建对象，同一天内复用LocalDate
+     */
+    private void tick() {
+        long millis = System.currentTimeMillis();
+        Snapshot current = snapshot;
+        if (current.millis != millis) {
+            snapshot = createSnapshot(millis, current);
+        }
+    }
+
+    private Snapshot createSnapshot(long millis, Snapshot previous) {
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+        LocalDate date = previous != null && previous.date.isEqual(dateTime.toLocalDate())
+                ? previous.date
+                : dateTime.toLocalDate();
+        return new Snapshot(millis, dateTime, date);
+    }
+
+    /**
+     * 获取缓存的当前日期时间
+     *
+     * @return 当前日期时间
+     */
+    public LocalDateTime dateTime() {
+        return snapshot.dateTime;
+    }
+
+    /**
+     * 获取缓存的当前日期
+     *
+     * @return 当前日期
+     */
+    public LocalDate date() {
+        return snapshot.date;
+    }
+
+    /**
+     * 获取刷新精度
+     *
+     * @return 刷新精度（毫秒）
+     */
+    public long getResolutionMillis() {
+        return resolutionMillis;
+    }
+
+    /**
+     * 判断后台刷新线程是否仍在运行
+     *
+     * @return true表示运行中
+     */
+    public boolean isRunning() {
+        return !ticker.isShutdown();
+    }
+
+    @Override
+    public long millis() {
+        return snapshot.millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(snapshot.millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 切换时区 粗粒度时钟绑定单一时区，时区不同时返回对应时区的系统时钟
+     *
+     * @param  zone 时区
+     * @return      时钟
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this.zone.equals(zone) ? this : Clock.system(zone);
+    }
+
+    /**
+     * 停止后台刷新线程，停止后时钟停留在最后一次刷新的时间。该时钟是DateUtil当前使用的时钟时，同时恢复系统时钟，
+     * 避免DateUtil在关闭后返回停止的时间
+     */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        DateUtil.uninstallClock(this);
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock{" + "zone=" + zone + ", resolutionMillis=" + resolutionMillis + '}';
+    }
+
+    /**
+     * 时间快照，字段一次性发布，保证毫秒时间戳与日期时间一致
+     */
+    private static final class Snapshot {
+
+        private final long millis;
+
+        private final LocalDateTime dateTime;
+
+        private final LocalDate date;
+
+        private Snapshot(long millis, LocalDateTime dateTime, LocalDate date) {
+            this.millis = millis;
+            this.dateTime = dateTime;
+            this.date = date;
+        }
+    }
+}
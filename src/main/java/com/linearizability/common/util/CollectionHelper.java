@@ -1,9 +1,30 @@
 package com.linearizability.common.util;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.linearizability.common.collection.Aggregator;
+import com.linearizability.common.collection.Aggregators;
+import com.linearizability.common.collection.BatchResult;
+import com.linearizability.common.collection.FieldIndex;
+import com.linearizability.common.collection.IntList;
+import com.linearizability.common.collection.LongHashSet;
+import com.linearizability.common.collection.LongList;
+import com.linearizability.common.collection.LongObjectMap;
+import com.linearizability.common.enums.SortOrderEnum;
+import com.linearizability.common.exception.SystemException;
 
 /**
  * 集合助手 - 提供集合元素字段提取、转换、分组、排序等功能
@@ -13,6 +34,26 @@ import java.util.stream.Collectors;
  */
 public class CollectionHelper {
 
+    /**
+     * 获取并行集合助手（公共ForkJoinPool，默认阈值）
+     *
+     * @return 并行集合助手
+     */
+    public static ParallelCollectionHelper parallel() {
+        return ParallelCollectionHelper.COMMON;
+    }
+
+    /**
+     * 获取在指定线程池中执行的并行集合助手（默认阈值）
+     *
+     * @param  pool                     线程池
+     * @return                          并行集合助手
+     * @throws IllegalArgumentException 线程池为null时抛出
+     */
+    public static ParallelCollectionHelper parallel(ForkJoinPool pool) {
+        return new ParallelCollectionHelper(pool, ParallelCollectionHelper.DEFAULT_THRESHOLD);
+    }
+
     /**
      * 从列表中提取第一个指定字段值不为空的元素，返回该字段值
      *
@@ -26,6 +67,9 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return null;
         }
+        if (list instanceof RandomAccess) {
+            return findFirstField(list, null, fieldExtractor);
+        }
         return list.stream().filter(Objects::nonNull).map(fieldExtractor).filter(Objects::nonNull).findFirst()
                 .orElse(null);
     }
@@ -44,6 +88,13 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             throw new IllegalArgumentException("List is null or empty");
         }
+        if (list instanceof RandomAccess) {
+            R value = findFirstField(list, null, fieldExtractor);
+            if (value == null) {
+                throw new IllegalArgumentException("All field values are null");
+            }
+            return value;
+        }
         return list.stream().filter(Objects::nonNull).map(fieldExtractor).filter(Objects::nonNull).findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("All field values are null"));
     }
@@ -131,6 +182,14 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return Collections.emptyList();
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            List<R> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(fieldExtractor.apply(list.get(i)));
+            }
+            return result;
+        }
         return list.stream().map(fieldExtractor).collect(Collectors.toList());
     }
 
@@ -147,6 +206,20 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return Collections.emptyList();
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            List<R> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null) {
+                    R value = fieldExtractor.apply(element);
+                    if (value != null) {
+                        result.add(value);
+                    }
+                }
+            }
+            return result;
+        }
         return list.stream().filter(Objects::nonNull).map(fieldExtractor).filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
@@ -164,6 +237,21 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return Collections.emptyList();
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            Set<R> seen = HashSet.newHashSet(size);
+            List<R> result = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null) {
+                    R value = fieldExtractor.apply(element);
+                    if (value != null && seen.add(value)) {
+                        result.add(value);
+                    }
+                }
+            }
+            return result;
+        }
         return list.stream().filter(Objects::nonNull).map(fieldExtractor).filter(Objects::nonNull).distinct()
                 .collect(Collectors.toList());
     }
@@ -181,10 +269,112 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return Collections.emptySet();
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            Set<R> result = HashSet.newHashSet(size);
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null) {
+                    R value = fieldExtractor.apply(element);
+                    if (value != null) {
+                        result.add(value);
+                    }
+                }
+            }
+            return result;
+        }
         return list.stream().filter(Objects::nonNull).map(fieldExtractor).filter(Objects::nonNull)
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * 从列表中提取所有非空元素的long字段值，结果不装箱
+     *
+     * @param  list           列表
+     * @param  fieldExtractor long字段提取器（字段为包装类型时，值不能为null）
+     * @param  <T>            列表元素类型
+     * @return                long列表，如果输入列表为空返回空列表
+     */
+    public static <T> LongList extractLongs(List<T> list, ToLongFunction<T> fieldExtractor) {
+        if (list == null || list.isEmpty()) {
+            return new LongList();
+        }
+        LongList result = new LongList(list.size());
+        for (T element : list) {
+            if (element != null) {
+                result.add(fieldExtractor.applyAsLong(element));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 从列表中提取所有非空元素的int字段值，结果不装箱
+     *
+     * @param  list           列表
+     * @param  fieldExtractor int字段提取器（字段为包装类型时，值不能为null）
+     * @param  <T>            列表元素类型
+     * @return                int列表，如果输入列表为空返回空列表
+     */
+    public static <T> IntList extractInts(List<T> list, ToIntFunction<T> fieldExtractor) {
+        if (list == null || list.isEmpty()) {
+            return new IntList();
+        }
+        IntList result = new IntList(list.size());
+        for (T element : list) {
+            if (element != null) {
+                result.add(fieldExtractor.applyAsInt(element));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 从列表中提取去重后的long字段值，保持首次出现的顺序，结果不装箱
+     *
+     * @param  list           列表
+     * @param  fieldExtractor long字段提取器（字段为包装类型时，值不能为null）
+     * @param  <T>            列表元素类型
+     * @return                去重后的long列表
+     */
+    public static <T> LongList extractDistinctLongs(List<T> list, ToLongFunction<T> fieldExtractor) {
+        if (list == null || list.isEmpty()) {
+            return new LongList();
+        }
+        LongHashSet seen = new LongHashSet(list.size());
+        LongList result = new LongList();
+        for (T element : list) {
+            if (element != null) {
+                long value = fieldExtractor.applyAsLong(element);
+                if (seen.add(value)) {
+                    result.add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 从列表中提取long字段值并转换为集合，结果不装箱
+     *
+     * @param  list           列表
+     * @param  fieldExtractor long字段提取器（字段为包装类型时，值不能为null）
+     * @param  <T>            列表元素类型
+     * @return                long集合
+     */
+    public static <T> LongHashSet extractLongSet(List<T> list, ToLongFunction<T> fieldExtractor) {
+        if (list == null || list.isEmpty()) {
+            return new LongHashSet();
+        }
+        LongHashSet result = new LongHashSet(list.size());
+        for (T element : list) {
+            if (element != null) {
+                result.add(fieldExtractor.applyAsLong(element));
+            }
+        }
+        return result;
+    }
+
     /**
      * 根据条件从列表中提取字段值
      *
@@ -200,6 +390,20 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return Collections.emptyList();
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            List<R> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null && condition.test(element)) {
+                    R value = fieldExtractor.apply(element);
+                    if (value != null) {
+                        result.add(value);
+                    }
+                }
+            }
+            return result;
+        }
         return list.stream().filter(Objects::nonNull).filter(condition).map(fieldExtractor).filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
@@ -219,6 +423,9 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return null;
         }
+        if (list instanceof RandomAccess) {
+            return findFirstField(list, condition, fieldExtractor);
+        }
         return list.stream().filter(Objects::nonNull).filter(condition).map(fieldExtractor).filter(Objects::nonNull)
                 .findFirst().orElse(null);
     }
@@ -255,10 +462,100 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return Collections.emptyMap();
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            Map<K, List<V>> result = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null) {
+                    K key = Objects.requireNonNull(keyExtractor.apply(element),
+                            "element cannot be mapped to a null key");
+                    result.computeIfAbsent(key, k -> new ArrayList<>()).add(valueExtractor.apply(element));
+                }
+            }
+            return result;
+        }
         return list.stream().filter(Objects::nonNull)
                 .collect(Collectors.groupingBy(keyExtractor, Collectors.mapping(valueExtractor, Collectors.toList())));
     }
 
+    /**
+     * 按键分组聚合，每个分组只保存聚合状态而不保存元素列表，null元素被忽略
+     *
+     * @param  source       数据源
+     * @param  keyExtractor 分组键提取器（分组键不能为null）
+     * @param  aggregator   聚合器，常用实现见{@link Aggregators}
+     * @param  <T>          元素类型
+     * @param  <K>          分组键类型
+     * @param  <A>          分组状态类型
+     * @param  <R>          聚合结果类型
+     * @return              分组键到聚合结果的Map
+     */
+    public static <T, K, A, R> Map<K, R> groupAggregate(Iterable<T> source, Function<T, K> keyExtractor,
+            Aggregator<T, A, R> aggregator) {
+        if (source == null) {
+            return new HashMap<>();
+        }
+        return groupAggregate(source.iterator(), keyExtractor, aggregator);
+    }
+
+    /**
+     * 按键分组聚合（流式数据源，逐个读取元素，无需完整加载到内存）
+     *
+     * @param  source       数据源迭代器
+     * @param  keyExtractor 分组键提取器（分组键不能为null）
+     * @param  aggregator   聚合器
+     * @param  <T>          元素类型
+     * @param  <K>          分组键类型
+     * @param  <A>          分组状态类型
+     * @param  <R>          聚合结果类型
+     * @return              分组键到聚合结果的Map
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K, A, R> Map<K, R> groupAggregate(Iterator<T> source, Function<T, K> keyExtractor,
+            Aggregator<T, A, R> aggregator) {
+        Map<K, Object> result = new HashMap<>();
+        if (source == null) {
+            return (Map<K, R>) result;
+        }
+        while (source.hasNext()) {
+            T element = source.next();
+            if (element == null) {
+                continue;
+            }
+            K key = Objects.requireNonNull(keyExtractor.apply(element), "element cannot be mapped to a null key");
+            A state = (A) result.get(key);
+            if (state == null) {
+                state = aggregator.newState();
+                result.put(key, state);
+            }
+            aggregator.accumulate(state, element);
+        }
+        // 原地将分组状态替换为聚合结果，避免再创建一个Map
+        result.replaceAll((key, state) -> aggregator.result((A) state));
+        return (Map<K, R>) result;
+    }
+
+    /**
+     * 按键分组聚合（Stream数据源，按顺序逐个消费，并行流也按顺序处理）
+     *
+     * @param  source       数据源Stream
+     * @param  keyExtractor 分组键提取器（分组键不能为null）
+     * @param  aggregator   聚合器
+     * @param  <T>          元素类型
+     * @param  <K>          分组键类型
+     * @param  <A>          分组状态类型
+     * @param  <R>          聚合结果类型
+     * @return              分组键到聚合结果的Map
+     */
+    public static <T, K, A, R> Map<K, R> groupAggregate(Stream<T> source, Function<T, K> keyExtractor,
+            Aggregator<T, A, R> aggregator) {
+        if (source == null) {
+            return new HashMap<>();
+        }
+        return groupAggregate(source.iterator(), keyExtractor, aggregator);
+    }
+
     /**
      * 从列表中提取字段值并转换为Map（一对一映射）
      *
@@ -275,10 +572,75 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return Collections.emptyMap();
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            Map<K, V> result = HashMap.newHashMap(size);
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null) {
+                    // 与Collectors.toMap一致，值不能为null
+                    V value = Objects.requireNonNull(valueExtractor.apply(element));
+                    result.putIfAbsent(keyExtractor.apply(element), value);
+                }
+            }
+            return result;
+        }
         return list.stream().filter(Objects::nonNull)
                 .collect(Collectors.toMap(keyExtractor, valueExtractor, (v1, v2) -> v1));
     }
 
+    /**
+     * 从列表中提取字段值并转换为long键映射（一对一映射，键重复时保留第一个值），键不装箱
+     *
+     * @param  list           列表
+     * @param  keyExtractor   long键提取器（字段为包装类型时，值不能为null）
+     * @param  valueExtractor 值提取器
+     * @param  <T>            列表元素类型
+     * @param  <V>            值类型
+     * @return                long键映射
+     */
+    public static <T, V> LongObjectMap<V> extractToLongKeyedMap(List<T> list, ToLongFunction<T> keyExtractor,
+            Function<T, V> valueExtractor) {
+        if (list == null || list.isEmpty()) {
+            return new LongObjectMap<>();
+        }
+        LongObjectMap<V> result = new LongObjectMap<>(list.size());
+        for (T element : list) {
+            if (element != null) {
+                long key = keyExtractor.applyAsLong(element);
+                if (!result.containsKey(key)) {
+                    result.put(key, valueExtractor.apply(element));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 从列表中提取字段值并按long键分组，键不装箱，组内保持原列表顺序
+     *
+     * @param  list           列表
+     * @param  keyExtractor   long分组键提取器（字段为包装类型时，值不能为null）
+     * @param  valueExtractor 值提取器
+     * @param  <T>            列表元素类型
+     * @param  <V>            值类型
+     * @return                分组后的long键映射
+     */
+    public static <T, V> LongObjectMap<List<V>> groupByLongKey(List<T> list, ToLongFunction<T> keyExtractor,
+            Function<T, V> valueExtractor) {
+        if (list == null || list.isEmpty()) {
+            return new LongObjectMap<>();
+        }
+        LongObjectMap<List<V>> result = new LongObjectMap<>();
+        for (T element : list) {
+            if (element != null) {
+                result.computeIfAbsent(keyExtractor.applyAsLong(element), key -> new ArrayList<>())
+                        .add(valueExtractor.apply(element));
+            }
+        }
+        return result;
+    }
+
     /**
      * 检查列表中是否存在指定字段值
      *
@@ -293,6 +655,16 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return false;
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null && Objects.equals(fieldExtractor.apply(element), value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
         return list.stream().filter(Objects::nonNull).map(fieldExtractor)
                 .anyMatch(fieldValue -> Objects.equals(fieldValue, value));
     }
@@ -311,10 +683,124 @@ public class CollectionHelper {
         if (list == null || list.isEmpty()) {
             return 0;
         }
+        if (list instanceof RandomAccess) {
+            int size = list.size();
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                T element = list.get(i);
+                if (element != null && Objects.equals(fieldExtractor.apply(element), value)) {
+                    count++;
+                }
+            }
+            return count;
+        }
         return list.stream().filter(Objects::nonNull).map(fieldExtractor)
                 .filter(fieldValue -> Objects.equals(fieldValue, value)).count();
     }
 
+    /**
+     * 对列表按指定字段建立哈希索引，用于在同一列表上反复执行contains/get/count查询（O(1)）。
+     * 同一列表的其他字段索引可通过{@link FieldIndex#index(Function)}建立，共享元素快照
+     *
+     * @param  list           列表
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            列表元素类型
+     * @param  <K>            字段类型
+     * @return                不可变的哈希索引
+     */
+    public static <T, K> FieldIndex<K, T> index(List<T> list, Function<T, K> fieldExtractor) {
+        return FieldIndex.hash(list, fieldExtractor);
+    }
+
+    /**
+     * 对列表按指定字段建立有序索引，支持O(log n)的contains/get/count查询和范围查询
+     *
+     * @param  list           列表
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            列表元素类型
+     * @param  <K>            字段类型（必须实现Comparable接口）
+     * @return                不可变的有序索引
+     */
+    public static <T, K extends Comparable<? super K>> FieldIndex<K, T> sortedIndex(List<T> list,
+            Function<T, K> fieldExtractor) {
+        return FieldIndex.sorted(list, fieldExtractor);
+    }
+
+    /**
+     * 按批次大小切分列表，返回原列表的subList视图，不复制元素（原列表结构修改后视图失效）
+     *
+     * @param  list                     列表
+     * @param  batchSize                批次大小
+     * @param  <T>                      列表元素类型
+     * @return                          批次视图列表，最后一批可能不足批次大小，输入列表为空时返回空列表
+     * @throws IllegalArgumentException 批次大小不为正数时抛出
+     */
+    public static <T> List<List<T>> partition(List<T> list, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, but was: " + batchSize);
+        }
+        if (list == null || list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return new Partition<>(list, batchSize);
+    }
+
+    /**
+     * 分批并行处理 按批次大小切分列表后在虚拟线程上执行批处理函数，同时运行的批次不超过并行度，
+     * 达到并行度时提交线程阻塞等待（背压）。结果按批次顺序合并，单个批次失败不影响其他批次，失败信息汇总在结果中
+     *
+     * @param  list                     列表
+     * @param  batchSize                批次大小
+     * @param  batchFunction            批处理函数，返回null视为空结果
+     * @param  parallelism              并行度（同时运行的最大批次数）
+     * @param  <T>                      列表元素类型
+     * @param  <R>                      结果元素类型
+     * @return                          分批处理结果
+     * @throws IllegalArgumentException 批次大小或并行度不为正数时抛出
+     * @throws SystemException          等待过程中线程被中断时抛出（保留中断标记）
+     */
+    public static <T, R> BatchResult<R> processInBatches(List<T> list, int batchSize,
+            Function<List<T>, List<R>> batchFunction, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive, but was: " + parallelism);
+        }
+        List<List<T>> batches = partition(list, batchSize);
+        int batchCount = batches.size();
+        List<Future<List<R>>> futures = new ArrayList<>(batchCount);
+        Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (List<T> batch : batches) {
+                    permits.acquire();
+                    futures.add(executor.submit(() -> {
+                        try {
+                            return batchFunction.apply(batch);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+                List<R> results = new ArrayList<>();
+                List<BatchResult.BatchFailure> failures = new ArrayList<>();
+                for (int i = 0; i < batchCount; i++) {
+                    try {
+                        List<R> batchResults = futures.get(i).get();
+                        if (batchResults != null) {
+                            results.addAll(batchResults);
+                        }
+                    } catch (ExecutionException e) {
+                        failures.add(new BatchResult.BatchFailure(i, i * batchSize, batches.get(i), e.getCause()));
+                    }
+                }
+                return new BatchResult<>(results, failures, batchCount);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new SystemException(SystemException.DEFAULT_CODE, "Batch processing interrupted", e);
+            }
+        }
+    }
+
     /**
      * 按指定字段降序排序，null值排在最后
      *
@@ -330,4 +816,294 @@ public class CollectionHelper {
         list.sort(Comparator.comparing(fieldExtractor, Comparator.nullsLast(Comparator.naturalOrder())).reversed());
     }
 
+    /**
+     * 取按指定字段排序后的前K个元素，基于容量为K的堆实现（O(n log k)），每个元素只提取一次字段值。
+     * 字段值为null的元素排在最后，字段值相同时保持原列表顺序，null元素被忽略
+     *
+     * @param  list                     列表
+     * @param  k                        取出的元素数量
+     * @param  fieldExtractor           字段提取器
+     * @param  order                    排序方向
+     * @param  <T>                      列表元素类型
+     * @param  <R>                      字段类型（必须实现Comparable接口）
+     * @return                          前K个元素组成的新列表（按排序方向排列），元素不足K个时返回全部非空元素
+     * @throws IllegalArgumentException K为负数时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R extends Comparable<? super R>> List<T> topK(List<T> list, int k, Function<T, R> fieldExtractor,
+            SortOrderEnum order) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative, but was: " + k);
+        }
+        if (list == null || list.isEmpty() || k == 0) {
+            return new ArrayList<>();
+        }
+        int capacity = Math.min(k, list.size());
+        Object[] elements = new Object[capacity];
+        Object[] keys = new Object[capacity];
+        int[] indexes = new int[capacity];
+        boolean descending = order == SortOrderEnum.DESC;
+        int size = 0;
+        int index = 0;
+        // 大顶堆，堆顶为当前保留元素中排名最靠后的元素
+        for (T element : list) {
+            int position = index++;
+            if (element == null) {
+                continue;
+            }
+            R key = fieldExtractor.apply(element);
+            if (size < capacity) {
+                int child = size++;
+                while (child > 0) {
+                    int parent = (child - 1) >>> 1;
+                    if (compareRank(keys[parent], indexes[parent], key, position, descending) >= 0) {
+                        break;
+                    }
+                    elements[child] = elements[parent];
+                    keys[child] = keys[parent];
+                    indexes[child] = indexes[parent];
+                    child = parent;
+                }
+                elements[child] = element;
+                keys[child] = key;
+                indexes[child] = position;
+            } else if (compareRank(key, position, keys[0], indexes[0], descending) < 0) {
+                int parent = 0;
+                while (true) {
+                    int child = 2 * parent + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size
+                            && compareRank(keys[child + 1], indexes[child + 1], keys[child], indexes[child],
+                                    descending) > 0) {
+                        child++;
+                    }
+                    if (compareRank(keys[child], indexes[child], key, position, descending) <= 0) {
+                        break;
+                    }
+                    elements[parent] = elements[child];
+                    keys[parent] = keys[child];
+                    indexes[parent] = indexes[child];
+                    parent = child;
+                }
+                elements[parent] = element;
+                keys[parent] = key;
+                indexes[parent] = position;
+            }
+        }
+        Integer[] slots = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = i;
+        }
+        Arrays.sort(slots, (a, b) -> compareRank(keys[a], indexes[a], keys[b], indexes[b], descending));
+        List<T> result = new ArrayList<>(size);
+        for (Integer slot : slots) {
+            result.add((T) elements[slot]);
+        }
+        return result;
+    }
+
+    /**
+     * 按指定字段排序（先提取全部字段值再排序，每个元素只调用一次字段提取器），排序稳定，字段值为null的元素排在最后
+     *
+     * @param list           列表
+     * @param fieldExtractor 字段提取器
+     * @param order          排序方向
+     * @param <T>            列表元素类型
+     * @param <R>            字段类型（必须实现Comparable接口）
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R extends Comparable<? super R>> void sortByField(List<T> list, Function<T, R> fieldExtractor,
+            SortOrderEnum order) {
+        if (list == null || list.size() < 2) {
+            return;
+        }
+        int size = list.size();
+        Object[] keys = new Object[size];
+        Object[] elements = list.toArray();
+        for (int i = 0; i < size; i++) {
+            keys[i] = fieldExtractor.apply((T) elements[i]);
+        }
+        boolean descending = order == SortOrderEnum.DESC;
+        Integer[] positions = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> compareRank(keys[a], a, keys[b], b, descending));
+        ListIterator<T> iterator = list.listIterator();
+        for (Integer position : positions) {
+            iterator.next();
+            iterator.set((T) elements[position]);
+        }
+    }
+
+    /**
+     * 按long类型字段排序，字段值提取到long[]后排序，比较过程不装箱，排序稳定
+     *
+     * @param list           列表
+     * @param keyExtractor   long字段提取器（字段为包装类型时，值不能为null）
+     * @param order          排序方向
+     * @param <T>            列表元素类型
+     */
+    public static <T> void sortByLongKey(List<T> list, ToLongFunction<T> keyExtractor, SortOrderEnum order) {
+        if (list == null || list.size() < 2) {
+            return;
+        }
+        int size = list.size();
+        long[] keys = new long[size];
+        int i = 0;
+        for (T element : list) {
+            keys[i++] = keyExtractor.applyAsLong(element);
+        }
+        sortByKeys(list, keys, order);
+    }
+
+    /**
+     * 按double类型字段排序，比较规则与Double.compare一致（NaN最大），比较过程不装箱，排序稳定
+     *
+     * @param list           列表
+     * @param keyExtractor   double字段提取器（字段为包装类型时，值不能为null）
+     * @param order          排序方向
+     * @param <T>            列表元素类型
+     */
+    public static <T> void sortByDoubleKey(List<T> list, ToDoubleFunction<T> keyExtractor, SortOrderEnum order) {
+        if (list == null || list.size() < 2) {
+            return;
+        }
+        int size = list.size();
+        long[] keys = new long[size];
+        int i = 0;
+        for (T element : list) {
+            // 转换为与Double.compare顺序一致的long：负数翻转除符号位以外的位
+            long bits = Double.doubleToLongBits(keyExtractor.applyAsDouble(element));
+            keys[i++] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        sortByKeys(list, keys, order);
+    }
+
+    /**
+     * 按下标遍历随机访问列表，返回第一个满足条件的非空元素的非空字段值
+     *
+     * @param  list           随机访问列表
+     * @param  condition      过滤条件，为null时不过滤
+     * @param  fieldExtractor 字段提取器
+     * @return                字段值，找不到返回null
+     */
+    private static <T, R> R findFirstField(List<T> list, Predicate<T> condition, Function<T, R> fieldExtractor) {
+        int size = list.size();
+        for (int i = 0; i < size; i++) {
+            T element = list.get(i);
+            if (element != null && (condition == null || condition.test(element))) {
+                R value = fieldExtractor.apply(element);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 比较两个元素的排名，字段值为null的排在最后，字段值相同时按原列表位置
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareRank(Object key1, int index1, Object key2, int index2, boolean descending) {
+        if (key1 == null || key2 == null) {
+            if (key1 != key2) {
+                return key1 == null ? 1 : -1;
+            }
+        } else {
+            int result = ((Comparable<Object>) key1).compareTo(key2);
+            if (result != 0) {
+                return descending ? -result : result;
+            }
+        }
+        return Integer.compare(index1, index2);
+    }
+
+    /**
+     * 按long键稳定排序列表（对下标数组归并排序后回写）
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void sortByKeys(List<T> list, long[] keys, SortOrderEnum order) {
+        int size = keys.length;
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
+        }
+        mergeSort(positions, new int[size], keys, 0, size, order == SortOrderEnum.DESC);
+        Object[] elements = list.toArray();
+        ListIterator<T> iterator = list.listIterator();
+        for (int position : positions) {
+            iterator.next();
+            iterator.set((T) elements[position]);
+        }
+    }
+
+    /**
+     * 对下标数组[from, to)按键归并排序，键相同时保持原顺序
+     */
+    private static void mergeSort(int[] positions, int[] buffer, long[] keys, int from, int to, boolean descending) {
+        if (to - from <= 16) {
+            for (int i = from + 1; i < to; i++) {
+                int position = positions[i];
+                int j = i - 1;
+                while (j >= from && before(keys[position], keys[positions[j]], descending)) {
+                    positions[j + 1] = positions[j];
+                    j--;
+                }
+                positions[j + 1] = position;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(positions, buffer, keys, from, middle, descending);
+        mergeSort(positions, buffer, keys, middle, to, descending);
+        if (!before(keys[positions[middle]], keys[positions[middle - 1]], descending)) {
+            return;
+        }
+        System.arraycopy(positions, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && !before(keys[buffer[right]], keys[buffer[left]], descending))) {
+                positions[i] = buffer[left++];
+            } else {
+                positions[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static boolean before(long key1, long key2, boolean descending) {
+        return descending ? key1 > key2 : key1 < key2;
+    }
+
+    /**
+     * 列表的分批视图
+     */
+    private static final class Partition<T> extends AbstractList<List<T>> implements RandomAccess {
+
+        private final List<T> list;
+
+        private final int batchSize;
+
+        private Partition(List<T> list, int batchSize) {
+            this.list = list;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public List<T> get(int index) {
+            Objects.checkIndex(index, size());
+            int from = index * batchSize;
+            return list.subList(from, Math.min(list.size(), from + batchSize));
+        }
+
+        @Override
+        public int size() {
+            return (int) ((list.size() + (long) batchSize - 1) / batchSize);
+        }
+    }
+
 }
@@ -4,7 +4,10 @@ import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 日期时间工具类 提供日期时间格式化、解析、计算、比较等常用方法
@@ -55,6 +58,17 @@ public class DateUtil {
      */
     private static final DateTimeFormatter DEFAULT_TIME_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_TIME_PATTERN);
 
+    /**
+     * 英文月份缩写（用于RFC 1123解析）
+     */
+    private static final String[] MONTH_ABBREVIATIONS = {"jan", "feb", "mar", "apr", "may", "jun", "jul", "aug",
+            "sep", "oct", "nov", "dec"};
+
+    /**
+     * 当前时间来源，默认为系统时钟，可切换为粗粒度时钟或测试用的固定时钟
+     */
+    private static volatile Clock clock = Clock.system(DEFAULT_ZONE);
+
     // ==================== 格式化 ====================
 
     /**
@@ -212,6 +226,307 @@ public class DateUtil {
         return LocalTime.parse(timeStr, DateTimeFormatter.ofPattern(pattern));
     }
 
+    // ==================== 宽松解析 ====================
+
+    /**
+     * 宽松解析日期时间字符串 单次扫描根据长度和分隔符位置识别格式并直接解析，无法识别时返回null而不抛出异常。
+     * 支持的格式：yyyy-MM-dd HH:mm:ss、ISO（yyyy-MM-dd'T'HH:mm[:ss][.SSSSSSSSS][Z|±HH:mm]）、yyyy-MM-dd、
+     * yyyyMMddHHmmss、yyyyMMddHHmmssSSS、yyyyMMdd、秒级时间戳（10位）、毫秒级时间戳（13位）、RFC 1123。
+     * 带时区偏移的输入会转换为默认时区的本地时间
+     *
+     * @param  text 日期时间字符串
+     * @return      LocalDateTime对象，为空或无法识别时返回null
+     */
+    public static LocalDateTime parseAny(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        int length = end - start;
+        if (length == 0) {
+            return null;
+        }
+        char first = text.charAt(start);
+        if (isAsciiDigit(first)) {
+            int digitEnd = start;
+            while (digitEnd < end && isAsciiDigit(text.charAt(digitEnd))) {
+                digitEnd++;
+            }
+            if (digitEnd == end) {
+                return parseDigits(text, start, length);
+            }
+            if (digitEnd - start == 4 && length >= 10 && text.charAt(start + 4) == '-'
+                    && text.charAt(start + 7) == '-') {
+                return parseDashed(text, start, end);
+            }
+            if (digitEnd - start <= 2 && text.charAt(digitEnd) == ' ') {
+                return parseRfc1123(text, start, end);
+            }
+            return null;
+        }
+        if (isAsciiLetter(first)) {
+            return parseRfc1123(text, start, end);
+        }
+        return null;
+    }
+
+    /**
+     * 宽松解析日期时间字符串，返回Optional
+     *
+     * @param  text 日期时间字符串
+     * @return      解析结果，为空或无法识别时返回Optional.empty()
+     * @see         #parseAny(CharSequence)
+     */
+    public static Optional<LocalDateTime> tryParseAny(CharSequence text) {
+        return Optional.ofNullable(parseAny(text));
+    }
+
+    /**
+     * 解析纯数字格式：yyyyMMdd、秒级时间戳、毫秒级时间戳、yyyyMMddHHmmss、yyyyMMddHHmmssSSS
+     */
+    private static LocalDateTime parseDigits(CharSequence text, int start, int length) {
+        switch (length) {
+            case 8:
+                return toDateTime(digits(text, start, 4), digits(text, start + 4, 2), digits(text, start + 6, 2), 0, 0,
+                        0, 0);
+            case 10:
+                return fromTimestampSeconds(digitsAsLong(text, start, 10));
+            case 13:
+                return fromTimestamp(digitsAsLong(text, start, 13));
+            case 14:
+            case 17:
+                int nano = length == 17 ? digits(text, start + 14, 3) * 1_000_000 : 0;
+                return toDateTime(digits(text, start, 4), digits(text, start + 4, 2), digits(text, start + 6, 2),
+                        digits(text, start + 8, 2), digits(text, start + 10, 2), digits(text, start + 12, 2), nano);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 解析以yyyy-MM-dd开头的格式：日期、默认格式、ISO格式（可带小数秒和时区偏移）
+     */
+    private static LocalDateTime parseDashed(CharSequence text, int start, int end) {
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        int pos = start + 10;
+        if (pos == end) {
+            return toDateTime(year, month, day, 0, 0, 0, 0);
+        }
+        char separator = text.charAt(pos);
+        if ((separator != ' ' && separator != 'T' && separator != 't') || end - pos < 6
+                || text.charAt(pos + 3) != ':') {
+            return null;
+        }
+        int hour = digits(text, pos + 1, 2);
+        int minute = digits(text, pos + 4, 2);
+        int second = 0;
+        int nano = 0;
+        pos += 6;
+        if (pos < end && text.charAt(pos) == ':') {
+            if (end - pos < 3) {
+                return null;
+            }
+            second = digits(text, pos + 1, 2);
+            pos += 3;
+            if (pos < end && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                pos++;
+                int fractionStart = pos;
+                while (pos < end && pos - fractionStart < 9 && isAsciiDigit(text.charAt(pos))) {
+                    nano = nano * 10 + (text.charAt(pos) - '0');
+                    pos++;
+                }
+                int fractionDigits = pos - fractionStart;
+                if (fractionDigits == 0) {
+                    return null;
+                }
+                for (int i = fractionDigits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        LocalDateTime dateTime = toDateTime(year, month, day, hour, minute, second, nano);
+        if (dateTime == null || pos == end) {
+            return dateTime;
+        }
+        int offsetSeconds = parseOffset(text, pos, end, true);
+        return offsetSeconds == Integer.MIN_VALUE ? null : toDefaultZone(dateTime, offsetSeconds);
+    }
+
+    /**
+     * 解析RFC 1123格式，如：Tue, 3 Jun 2008 11:05:30 GMT
+     */
+    private static LocalDateTime parseRfc1123(CharSequence text, int start, int end) {
+        int pos = start;
+        if (end - pos > 5 && isAsciiLetter(text.charAt(pos + 1)) && isAsciiLetter(text.charAt(pos + 2))
+                && text.charAt(pos + 3) == ',') {
+            pos += 4;
+            while (pos < end && text.charAt(pos) == ' ') {
+                pos++;
+            }
+        }
+        int dayStart = pos;
+        while (pos < end && pos - dayStart < 2 && isAsciiDigit(text.charAt(pos))) {
+            pos++;
+        }
+        int dayDigits = pos - dayStart;
+        // 剩余部分至少包含：" MMM yyyy HH:mm UT"
+        if (dayDigits == 0 || end - pos < 18 || text.charAt(pos) != ' ' || text.charAt(pos + 4) != ' '
+                || text.charAt(pos + 9) != ' ' || text.charAt(pos + 12) != ':') {
+            return null;
+        }
+        int day = digits(text, dayStart, dayDigits);
+        int month = monthOf(text, pos + 1);
+        int year = digits(text, pos + 5, 4);
+        int hour = digits(text, pos + 10, 2);
+        int minute = digits(text, pos + 13, 2);
+        int second = 0;
+        pos += 15;
+        if (text.charAt(pos) == ':') {
+            if (end - pos < 4) {
+                return null;
+            }
+            second = digits(text, pos + 1, 2);
+            pos += 3;
+        }
+        if (pos >= end || text.charAt(pos) != ' ') {
+            return null;
+        }
+        LocalDateTime dateTime = toDateTime(year, month, day, hour, minute, second, 0);
+        if (dateTime == null) {
+            return null;
+        }
+        int offsetSeconds = parseOffset(text, pos + 1, end, false);
+        return offsetSeconds == Integer.MIN_VALUE ? null : toDefaultZone(dateTime, offsetSeconds);
+    }
+
+    /**
+     * 解析时区偏移：Z、GMT、UT、UTC、±HH、±HHmm、±HH:mm
+     *
+     * @return 偏移秒数，无法识别时返回Integer.MIN_VALUE
+     */
+    private static int parseOffset(CharSequence text, int pos, int end, boolean allowColon) {
+        int length = end - pos;
+        if (length == 1 && (text.charAt(pos) == 'Z' || text.charAt(pos) == 'z')) {
+            return 0;
+        }
+        if (matchesIgnoreCase(text, pos, end, "GMT") || matchesIgnoreCase(text, pos, end, "UT")
+                || matchesIgnoreCase(text, pos, end, "UTC")) {
+            return 0;
+        }
+        char sign = text.charAt(pos);
+        if ((sign != '+' && sign != '-') || (length != 3 && length != 5 && length != 6)) {
+            return Integer.MIN_VALUE;
+        }
+        int hours = digits(text, pos + 1, 2);
+        int minutes = 0;
+        if (length == 5) {
+            minutes = digits(text, pos + 3, 2);
+        } else if (length == 6) {
+            if (!allowColon || text.charAt(pos + 3) != ':') {
+                return Integer.MIN_VALUE;
+            }
+            minutes = digits(text, pos + 4, 2);
+        }
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+        int total = hours * 3600 + minutes * 60;
+        if (total > 18 * 3600) {
+            return Integer.MIN_VALUE;
+        }
+        return sign == '-' ? -total : total;
+    }
+
+    /**
+     * 将指定偏移的本地时间转换为默认时区的本地时间
+     */
+    private static LocalDateTime toDefaultZone(LocalDateTime dateTime, int offsetSeconds) {
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.ofTotalSeconds(offsetSeconds));
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, dateTime.getNano()), DEFAULT_ZONE);
+    }
+
+    /**
+     * 校验各字段范围后创建LocalDateTime，任一字段非法时返回null
+     */
+    private static LocalDateTime toDateTime(int year, int month, int day, int hour, int minute, int second,
+            int nano) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || second < 0 || second > 59 || nano < 0) {
+            return null;
+        }
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * 读取定长数字，包含非数字字符时返回-1
+     */
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = text.charAt(i);
+            if (!isAsciiDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static long digitsAsLong(CharSequence text, int start, int count) {
+        long value = 0;
+        for (int i = start; i < start + count; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 解析三个字母的英文月份缩写（忽略大小写），无法识别时返回-1
+     */
+    private static int monthOf(CharSequence text, int pos) {
+        for (int i = 0; i < MONTH_ABBREVIATIONS.length; i++) {
+            String abbreviation = MONTH_ABBREVIATIONS[i];
+            if (Character.toLowerCase(text.charAt(pos)) == abbreviation.charAt(0)
+                    && Character.toLowerCase(text.charAt(pos + 1)) == abbreviation.charAt(1)
+                    && Character.toLowerCase(text.charAt(pos + 2)) == abbreviation.charAt(2)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesIgnoreCase(CharSequence text, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toUpperCase(text.charAt(start + i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
     // ==================== 日期计算 ====================
 
     /**
@@ -624,14 +939,11 @@ public class DateUtil {
      * @return          转换后的日期时间
      */
     public static LocalDateTime convertZone(LocalDateTime dateTime, ZoneId zoneId) {
-        if (dateTime == null || zoneId == null) {
-            return dateTime;
-        }
-        return dateTime.atZone(DEFAULT_ZONE).withZoneSameInstant(zoneId).toLocalDateTime();
+        return convertZone(dateTime, DEFAULT_ZONE, zoneId);
     }
 
     /**
-     * 转换时区（指定源时区和目标时区）
+     * 转换时区（指定源时区和目标时区） 使用按时区对预计算并缓存的偏移表，单次转换只需一次查找
      *
      * @param  dateTime   日期时间
      * @param  sourceZone 源时区
@@ -642,16 +954,55 @@ public class DateUtil {
         if (dateTime == null || sourceZone == null || targetZone == null) {
             return dateTime;
         }
-        return dateTime.atZone(sourceZone).withZoneSameInstant(targetZone).toLocalDateTime();
+        return ZoneConversionTable.of(sourceZone, targetZone).convert(dateTime);
     }
 
+    /**
+     * 批量转换时区 整批共用同一张偏移表，按时间排序的输入可复用相邻元素的查找结果
+     *
+     * @param  dateTimes  日期时间列表（null元素原样保留）
+     * @param  sourceZone 源时区
+     * @param  targetZone 目标时区
+     * @return            转换后的日期时间列表，输入为空时返回空列表
+     */
+    public static List<LocalDateTime> convertZone(List<LocalDateTime> dateTimes, ZoneId sourceZone,
+            ZoneId targetZone) {
+        if (dateTimes == null || dateTimes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (sourceZone == null || targetZone == null) {
+            return new ArrayList<>(dateTimes);
+        }
+        return ZoneConversionTable.of(sourceZone, targetZone).convert(dateTimes);
+    }
+
+    /**
+     * 批量转换时区（本地毫秒表示，即本地日期时间按UTC计算的毫秒数，如LocalDateTime.toEpochSecond(ZoneOffset.UTC) * 1000）
+     *
+     * @param  localMillis 源时区的本地毫秒数组
+     * @param  sourceZone  源时区
+     * @param  targetZone  目标时区
+     * @return             目标时区的本地毫秒数组，输入为null时返回空数组
+     */
+    public static long[] convertZone(long[] localMillis, ZoneId sourceZone, ZoneId targetZone) {
+        if (localMillis == null) {
+            return new long[0];
+        }
+        if (sourceZone == null || targetZone == null) {
+            return localMillis.clone();
+        }
+        return ZoneConversionTable.of(sourceZone, targetZone).convert(localMillis);
+    }
+
+    // ==================== 当前时间 ====================
+
     /**
      * 获取当前时间戳（毫秒）
      *
      * @return 当前时间戳
      */
     public static long currentTimestamp() {
-        return System.currentTimeMillis();
+        return clock.millis();
     }
 
     /**
@@ -660,25 +1011,95 @@ public class DateUtil {
      * @return 当前时间戳
      */
     public static long currentTimestampSeconds() {
-        return System.currentTimeMillis() / 1000;
+        return clock.millis() / 1000;
     }
 
     /**
-     * 获取当前日期时间
+     * 获取当前日期时间 粗粒度时钟模式下直接返回缓存的对象，不产生系统调用和对象分配
      *
      * @return 当前日期时间
      */
     public static LocalDateTime now() {
-        return LocalDateTime.now();
+        Clock current = clock;
+        if (current instanceof CoarseClock coarseClock) {
+            return coarseClock.dateTime();
+        }
+        return LocalDateTime.now(current);
     }
 
     /**
-     * 获取当前日期
+     * 获取当前日期 粗粒度时钟模式下直接返回缓存的对象，不产生系统调用和对象分配
      *
      * @return 当前日期
      */
     public static LocalDate today() {
-        return LocalDate.now();
+        Clock current = clock;
+        if (current instanceof CoarseClock coarseClock) {
+            return coarseClock.date();
+        }
+        return LocalDate.now(current);
+    }
+
+    /**
+     * 获取当前使用的时钟
+     *
+     * @return 时钟
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * 切换时钟（如测试中使用Clock.fixed），原时钟为粗粒度时钟时会停止其后台线程
+     *
+     * @param newClock 新时钟，为null时恢复系统时钟
+     */
+    public static synchronized void setClock(Clock newClock) {
+        Clock previous = clock;
+        clock = newClock == null ? Clock.system(DEFAULT_ZONE) : newClock;
+        if (previous != clock && previous instanceof CoarseClock coarseClock) {
+            coarseClock.close();
+        }
+    }
+
+    /**
+     * 恢复系统时钟
+     */
+    public static void resetClock() {
+        setClock(null);
+    }
+
+    /**
+     * 指定时钟是当前使用的时钟时恢复系统时钟，供粗粒度时钟关闭时调用
+     *
+     * @param expected 被关闭的时钟
+     */
+    static synchronized void uninstallClock(Clock expected) {
+        if (clock == expected) {
+            clock = Clock.system(DEFAULT_ZONE);
+        }
+    }
+
+    /**
+     * 启用粗粒度时钟模式，由单个后台线程按指定精度刷新当前时间 关闭返回的时钟（如try-with-resources）时自动恢复系统时钟
+     *
+     * @param  resolutionMillis         刷新精度（毫秒），常用1ms或10ms
+     * @return                          启用的粗粒度时钟
+     * @throws IllegalArgumentException 精度小于1ms时抛出
+     */
+    public static CoarseClock enableCoarseClock(long resolutionMillis) {
+        CoarseClock coarseClock = CoarseClock.start(resolutionMillis, DEFAULT_ZONE);
+        setClock(coarseClock);
+        return coarseClock;
+    }
+
+    /**
+     * 判断是否处于粗粒度时钟模式
+     *
+     * @return true表示粗粒度时钟模式
+     */
+    public static boolean isCoarseClockEnabled() {
+        return clock instanceof CoarseClock;
     }
 
     // ==================== 工作日计算 ====================
@@ -872,4 +1293,195 @@ public class DateUtil {
         }
         return date.with(TemporalAdjusters.lastDayOfYear());
     }
+
+    // ==================== 批量（列式）计算 ====================
+
+    /**
+     * 批量将时间戳（毫秒）转换为纪元日（默认时区），纪元日即距1970-01-01的天数，与LocalDate.toEpochDay()一致
+     *
+     * @param  epochMillis 时间戳（毫秒）数组
+     * @return             纪元日数组，输入为null时返回空数组
+     */
+    public static int[] toEpochDays(long[] epochMillis) {
+        return toEpochDays(epochMillis, DEFAULT_ZONE);
+    }
+
+    /**
+     * 批量将时间戳（毫秒）转换为纪元日（指定时区）
+     *
+     * @param  epochMillis 时间戳（毫秒）数组
+     * @param  zoneId      时区
+     * @return             纪元日数组，输入为null时返回空数组
+     */
+    public static int[] toEpochDays(long[] epochMillis, ZoneId zoneId) {
+        if (epochMillis == null) {
+            return new int[0];
+        }
+        return ZoneOffsetTable.of(zoneId == null ? DEFAULT_ZONE : zoneId).toEpochDays(epochMillis);
+    }
+
+    /**
+     * 批量计算星期几（ISO标准，1表示周一，7表示周日）
+     *
+     * @param  epochDays 纪元日数组
+     * @return           星期几数组，输入为null时返回空数组
+     */
+    public static int[] dayOfWeek(int[] epochDays) {
+        if (epochDays == null) {
+            return new int[0];
+        }
+        int[] result = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = isoDayOfWeek(epochDays[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 批量获取所在周的开始日期（周一），对应{@link #getWeekStart(LocalDate)}
+     *
+     * @param  epochDays 纪元日数组
+     * @return           周开始日期的纪元日数组，输入为null时返回空数组
+     */
+    public static int[] weekStarts(int[] epochDays) {
+        if (epochDays == null) {
+            return new int[0];
+        }
+        int[] result = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = epochDays[i] - isoDayOfWeek(epochDays[i]) + 1;
+        }
+        return result;
+    }
+
+    /**
+     * 批量获取所在月的开始日期，对应{@link #getMonthStart(LocalDate)}
+     *
+     * @param  epochDays 纪元日数组
+     * @return           月开始日期的纪元日数组，输入为null时返回空数组
+     */
+    public static int[] monthStarts(int[] epochDays) {
+        if (epochDays == null) {
+            return new int[0];
+        }
+        int[] result = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = monthStart(epochDays[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 批量获取所在年的开始日期，对应{@link #getYearStart(LocalDate)}
+     *
+     * @param  epochDays 纪元日数组
+     * @return           年开始日期的纪元日数组，输入为null时返回空数组
+     */
+    public static int[] yearStarts(int[] epochDays) {
+        if (epochDays == null) {
+            return new int[0];
+        }
+        int[] result = new int[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = yearStart(epochDays[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 批量计算天数差（end - start），对应{@link #daysBetween(LocalDate, LocalDate)}
+     *
+     * @param  starts                   开始日期的纪元日数组
+     * @param  ends                     结束日期的纪元日数组
+     * @return                          天数差数组，任一输入为null时返回空数组
+     * @throws IllegalArgumentException 两个数组长度不一致时抛出
+     */
+    public static int[] daysBetween(int[] starts, int[] ends) {
+        if (starts == null || ends == null) {
+            return new int[0];
+        }
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException(
+                    "Array length mismatch: starts=" + starts.length + ", ends=" + ends.length);
+        }
+        int[] result = new int[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            result[i] = ends[i] - starts[i];
+        }
+        return result;
+    }
+
+    /**
+     * 批量判断是否为工作日（周一到周五），对应{@link #isWorkday(LocalDate)}
+     *
+     * @param  epochDays 纪元日数组
+     * @return           工作日掩码，输入为null时返回空数组
+     */
+    public static boolean[] workdayMask(int[] epochDays) {
+        if (epochDays == null) {
+            return new boolean[0];
+        }
+        boolean[] result = new boolean[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = isoDayOfWeek(epochDays[i]) <= 5;
+        }
+        return result;
+    }
+
+    /**
+     * 批量判断是否为周末（周六和周日），对应{@link #isWeekend(LocalDate)}
+     *
+     * @param  epochDays 纪元日数组
+     * @return           周末掩码，输入为null时返回空数组
+     */
+    public static boolean[] weekendMask(int[] epochDays) {
+        if (epochDays == null) {
+            return new boolean[0];
+        }
+        boolean[] result = new boolean[epochDays.length];
+        for (int i = 0; i < epochDays.length; i++) {
+            result[i] = isoDayOfWeek(epochDays[i]) > 5;
+        }
+        return result;
+    }
+
+    /**
+     * 计算纪元日对应的星期几（1970-01-01为周四）
+     */
+    static int isoDayOfWeek(int epochDay) {
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    /**
+     * 计算纪元日所在月第一天的纪元日（基于以3月为年首的公历换算，避免创建LocalDate）
+     */
+    static int monthStart(int epochDay) {
+        int z = epochDay + 719_468;
+        int era = Math.floorDiv(z, 146_097);
+        int dayOfEra = z - era * 146_097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int monthIndex = (5 * dayOfYear + 2) / 153;
+        int dayOfMonth = dayOfYear - (153 * monthIndex + 2) / 5;
+        return epochDay - dayOfMonth;
+    }
+
+    /**
+     * 计算纪元日所在年第一天的纪元日
+     */
+    private static int yearStart(int epochDay) {
+        int z = epochDay + 719_468;
+        int era = Math.floorDiv(z, 146_097);
+        int dayOfEra = z - era * 146_097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        // 以3月为年首时，1月和2月（dayOfYear >= 306）属于下一个公历年
+        int year = yearOfEra + era * 400 + (dayOfYear >= 306 ? 1 : 0);
+        // 1月1日是以3月为年首的上一年中的第306天
+        int marchYear = year - 1;
+        int marchEra = Math.floorDiv(marchYear, 400);
+        int marchYearOfEra = marchYear - marchEra * 400;
+        return marchEra * 146_097 + 365 * marchYearOfEra + marchYearOfEra / 4 - marchYearOfEra / 100 + 306
+                - 719_468;
+    }
 }
@@ -55,6 +55,8 @@ public class JsonUtil {
         ObjectMapper mapper = new ObjectMapper();
         // 注册Java 8时间模块
         mapper.registerModule(new JavaTimeModule());
+        // BaseEnum枚举按编码序列化和反序列化
+        mapper.registerModule(new BaseEnumModule());
         // 忽略未知属性
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         // 忽略空值
@@ -0,0 +1,214 @@
+package com.linearizability.common.util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 并行集合助手 在指定的ForkJoinPool中并行执行CollectionHelper的批量操作，列表长度低于阈值时退回顺序执行。
+ * 顺序版本保持元素顺序的操作（列表提取、分组、一对一映射的"保留第一个值"）在并行时同样保持顺序，
+ * 不关心顺序的操作（Set提取、计数）使用并发容器。实例不可变，线程安全，通过{@link CollectionHelper#parallel()}获取
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class ParallelCollectionHelper {
+
+    /**
+     * 默认并行阈值，列表长度低于该值时顺序执行（拆分和合并的开销通常高于收益）
+     */
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    /**
+     * 使用公共池和默认阈值的实例
+     */
+    static final ParallelCollectionHelper COMMON = new ParallelCollectionHelper(ForkJoinPool.commonPool(),
+            DEFAULT_THRESHOLD);
+
+    /**
+     * 执行并行任务的线程池
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * 并行阈值
+     */
+    private final int threshold;
+
+    ParallelCollectionHelper(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool must not be null");
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must not be negative, but was: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * 使用新的并行阈值创建实例
+     *
+     * @param  threshold                并行阈值，列表长度不小于该值时并行执行，为0时总是并行
+     * @return                          新实例
+     * @throws IllegalArgumentException 阈值为负数时抛出
+     */
+    public ParallelCollectionHelper withThreshold(int threshold) {
+        return new ParallelCollectionHelper(pool, threshold);
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 并行提取所有元素的指定字段值，结果保持原列表顺序
+     *
+     * @param  list           列表
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            列表元素类型
+     * @param  <R>            字段类型
+     * @return                字段值列表，如果输入列表为空返回空列表
+     * @see                   CollectionHelper#extractFieldList(List, Function)
+     */
+    public <T, R> List<R> extractFieldList(List<T> list, Function<T, R> fieldExtractor) {
+        if (!shouldParallelize(list)) {
+            return CollectionHelper.extractFieldList(list, fieldExtractor);
+        }
+        return execute(() -> list.parallelStream().map(fieldExtractor).collect(Collectors.toList()));
+    }
+
+    /**
+     * 并行提取字段值并转换为Set（并发写入，不保证迭代顺序）
+     *
+     * @param  list           列表
+     * @param  fieldExtractor 字段提取器
+     * @param  <T>            列表元素类型
+     * @param  <R>            字段类型
+     * @return                字段值Set
+     * @see                   CollectionHelper#extractFieldSet(List, Function)
+     */
+    public <T, R> Set<R> extractFieldSet(List<T> list, Function<T, R> fieldExtractor) {
+        if (!shouldParallelize(list)) {
+            return CollectionHelper.extractFieldSet(list, fieldExtractor);
+        }
+        Set<R> result = ConcurrentHashMap.newKeySet(list.size());
+        execute(() -> {
+            list.parallelStream().filter(Objects::nonNull).map(fieldExtractor).filter(Objects::nonNull)
+                    .forEach(result::add);
+            return null;
+        });
+        return result;
+    }
+
+    /**
+     * 并行提取字段值并按指定字段分组，组内保持原列表顺序
+     *
+     * @param  list           列表
+     * @param  keyExtractor   分组键提取器
+     * @param  valueExtractor 值提取器
+     * @param  <T>            列表元素类型
+     * @param  <K>            分组键类型
+     * @param  <V>            值类型
+     * @return                分组后的Map
+     * @see                   CollectionHelper#extractAndGroupBy(List, Function, Function)
+     */
+    public <T, K, V> Map<K, List<V>> extractAndGroupBy(List<T> list, Function<T, K> keyExtractor,
+            Function<T, V> valueExtractor) {
+        if (!shouldParallelize(list)) {
+            return CollectionHelper.extractAndGroupBy(list, keyExtractor, valueExtractor);
+        }
+        return execute(() -> list.parallelStream().filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(keyExtractor, Collectors.mapping(valueExtractor, Collectors.toList()))));
+    }
+
+    /**
+     * 并行提取字段值并转换为Map（一对一映射），键重复时与顺序版本一样保留原列表中靠前的值
+     *
+     * @param  list           列表
+     * @param  keyExtractor   键提取器
+     * @param  valueExtractor 值提取器
+     * @param  <T>            列表元素类型
+     * @param  <K>            键类型
+     * @param  <V>            值类型
+     * @return                键值对Map
+     * @see                   CollectionHelper#extractToMap(List, Function, Function)
+     */
+    public <T, K, V> Map<K, V> extractToMap(List<T> list, Function<T, K> keyExtractor,
+            Function<T, V> valueExtractor) {
+        if (!shouldParallelize(list)) {
+            return CollectionHelper.extractToMap(list, keyExtractor, valueExtractor);
+        }
+        return execute(() -> list.parallelStream().filter(Objects::nonNull)
+                .collect(Collectors.toMap(keyExtractor, valueExtractor, (v1, v2) -> v1)));
+    }
+
+    /**
+     * 并行统计列表中指定字段值的出现次数
+     *
+     * @param  list           列表
+     * @param  fieldExtractor 字段提取器
+     * @param  value          要统计的值
+     * @param  <T>            列表元素类型
+     * @param  <R>            字段类型
+     * @return                出现次数
+     * @see                   CollectionHelper#countFieldValue(List, Function, Object)
+     */
+    public <T, R> long countFieldValue(List<T> list, Function<T, R> fieldExtractor, R value) {
+        if (!shouldParallelize(list)) {
+            return CollectionHelper.countFieldValue(list, fieldExtractor, value);
+        }
+        return execute(() -> list.parallelStream().unordered().filter(Objects::nonNull).map(fieldExtractor)
+                .filter(fieldValue -> Objects.equals(fieldValue, value)).count());
+    }
+
+    /**
+     * 并行按指定字段降序排序，比较规则与顺序版本一致，排序稳定
+     *
+     * @param list           列表
+     * @param fieldExtractor 字段提取器
+     * @param <T>            列表元素类型
+     * @param <R>            字段类型（必须实现Comparable接口）
+     * @see                  CollectionHelper#sortByFieldDesc(List, Function)
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R extends Comparable<R>> void sortByFieldDesc(List<T> list, Function<T, R> fieldExtractor) {
+        if (!shouldParallelize(list)) {
+            CollectionHelper.sortByFieldDesc(list, fieldExtractor);
+            return;
+        }
+        Comparator<T> comparator = Comparator.comparing(fieldExtractor, Comparator.nullsLast(Comparator.naturalOrder()))
+                .reversed();
+        T[] array = (T[]) list.toArray();
+        execute(() -> {
+            Arrays.parallelSort(array, comparator);
+            return null;
+        });
+        ListIterator<T> iterator = list.listIterator();
+        for (T element : array) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+
+    private boolean shouldParallelize(List<?> list) {
+        return list != null && !list.isEmpty() && list.size() >= threshold;
+    }
+
+    /**
+     * 在线程池中执行任务，任务内的并行流与并行排序会使用该线程池的工作线程
+     */
+    private <R> R execute(Supplier<R> task) {
+        if (pool == ForkJoinPool.commonPool()) {
+            return task.get();
+        }
+        return pool.submit(task::get).join();
+    }
+}
@@ -0,0 +1,401 @@
+package com.linearizability.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linearizability.common.dto.Result;
+import com.linearizability.common.enums.ResponseCodeEnum;
+
+/**
+ * 常量响应缓存 将内容固定的响应（如按响应状态码的成功/失败响应、空分页结果）预先序列化为UTF-8字节模板，
+ * 输出时只把响应时间戳、响应时间和响应ID写入模板的对应位置，其余部分直接复制字节，不经过Jackson序列化。
+ * 输出与{@link JsonUtil#toJsonBytes(Object)}序列化同内容的响应逐字节一致。线程安全
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class ResponseCache {
+
+    /**
+     * 按响应状态码和自定义消息缓存的模板数量上限，超出后不再缓存，未缓存的组合直接序列化响应对象
+     */
+    public static final int MAX_MESSAGE_TEMPLATES = 1024;
+
+    private static final String TIMESTAMP_FIELD = "timestamp";
+
+    private static final String RESPONSE_TIME_FIELD = "responseTime";
+
+    private static final String RESPONSE_ID_FIELD = "responseId";
+
+    /**
+     * 模板中动态字段的占位符（序列化后带引号）
+     */
+    private static final String TIMESTAMP_PLACEHOLDER = "\u0001RC_TIMESTAMP\u0001";
+
+    private static final String RESPONSE_TIME_PLACEHOLDER = "\u0001RC_RESPONSE_TIME\u0001";
+
+    private static final String RESPONSE_ID_PLACEHOLDER = "\u0001RC_RESPONSE_ID\u0001";
+
+    /**
+     * 按响应状态码的模板（无响应ID、带响应ID）
+     */
+    private static final Map<ResponseCodeEnum, Template[]> CODE_TEMPLATES = createCodeTemplates();
+
+    /**
+     * 按响应状态码和自定义消息的模板
+     */
+    private static final Map<MessageKey, Template[]> MESSAGE_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * 按名称注册的模板
+     */
+    private static final Map<String, Template[]> NAMED_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * 获取响应状态码对应的响应（同{@link Result#of(ResponseCodeEnum)}）的JSON字节
+     *
+     * @param  codeEnum                 响应状态码
+     * @return                          JSON字节数组，时间为当前时间
+     * @throws IllegalArgumentException 响应状态码为null时抛出
+     */
+    public static byte[] toJsonBytes(ResponseCodeEnum codeEnum) {
+        return toJsonBytes(codeEnum, null);
+    }
+
+    /**
+     * 获取响应状态码对应的响应（同{@link Result#of(ResponseCodeEnum)}）的JSON字节，带响应ID
+     *
+     * @param  codeEnum                 响应状态码
+     * @param  responseId               响应ID，为null时不输出
+     * @return                          JSON字节数组，时间为当前时间
+     * @throws IllegalArgumentException 响应状态码为null时抛出
+     */
+    public static byte[] toJsonBytes(ResponseCodeEnum codeEnum, String responseId) {
+        if (codeEnum == null) {
+            throw new IllegalArgumentException("codeEnum must not be null");
+        }
+        return render(CODE_TEMPLATES.get(codeEnum), responseId);
+    }
+
+    /**
+     * 获取响应状态码和自定义消息对应的失败响应的JSON字节 状态码为枚举编码，业务错误码为枚举名称（成功状态码时不输出）。
+     * 只适用于数量有限的常量消息：每个新的消息首次使用时生成模板并常驻内存，直到达到{@link #MAX_MESSAGE_TEMPLATES}；
+     * 包含动态内容的消息（如"订单123不存在"）应直接使用JsonUtil序列化，否则会占满模板缓存
+     *
+     * @param  codeEnum                 响应状态码
+     * @param  message                  响应消息
+     * @param  responseId               响应ID，为null时不输出
+     * @return                          JSON字节数组，时间为当前时间
+     * @throws IllegalArgumentException 响应状态码为null时抛出
+     */
+    public static byte[] toJsonBytes(ResponseCodeEnum codeEnum, String message, String responseId) {
+        if (codeEnum == null) {
+            throw new IllegalArgumentException("codeEnum must not be null");
+        }
+        MessageKey key = new MessageKey(codeEnum, message);
+        Template[] templates = MESSAGE_TEMPLATES.get(key);
+        if (templates == null) {
+            Result<Object> response = new Result<>(codeEnum.getCode(),
+                    codeEnum.getCode() == Result.SUCCESS_CODE ? null : codeEnum.name(), message, null);
+            if (MESSAGE_TEMPLATES.size() >= MAX_MESSAGE_TEMPLATES) {
+                // 缓存已满时生成一次性模板比直接序列化更慢（多两次序列化和一次字节扫描），直接序列化
+                if (responseId != null) {
+                    response.setResponseId(responseId);
+                }
+                return JsonUtil.toJsonBytes(response);
+            }
+            templates = templates(response);
+            Template[] existing = MESSAGE_TEMPLATES.putIfAbsent(key, templates);
+            if (existing != null) {
+                templates = existing;
+            }
+        }
+        return render(templates, responseId);
+    }
+
+    /**
+     * 按名称注册常量响应（如空分页结果） 注册时序列化一次，之后响应对象的修改不影响已注册的模板
+     *
+     * @param  name                     名称
+     * @param  response                 常量响应
+     * @throws IllegalArgumentException 名称或响应为null时抛出
+     */
+    public static void register(String name, Result<?> response) {
+        if (name == null || response == null) {
+            throw new IllegalArgumentException("name and response must not be null");
+        }
+        NAMED_TEMPLATES.put(name, templates(response));
+    }
+
+    /**
+     * 获取已注册的常量响应的JSON字节
+     *
+     * @param  name                     名称
+     * @param  responseId               响应ID，为null时不输出
+     * @return                          JSON字节数组，时间为当前时间
+     * @throws IllegalArgumentException 名称未注册时抛出
+     */
+    public static byte[] toJsonBytes(String name, String responseId) {
+        Template[] templates = name == null ? null : NAMED_TEMPLATES.get(name);
+        if (templates == null) {
+            throw new IllegalArgumentException("No response registered with name: " + name);
+        }
+        return render(templates, responseId);
+    }
+
+    private static Map<ResponseCodeEnum, Template[]> createCodeTemplates() {
+        Map<ResponseCodeEnum, Template[]> templates = new EnumMap<>(ResponseCodeEnum.class);
+        for (ResponseCodeEnum codeEnum : ResponseCodeEnum.values()) {
+            templates.put(codeEnum, templates(Result.of(codeEnum)));
+        }
+        return templates;
+    }
+
+    private static byte[] render(Template[] templates, String responseId) {
+        // 与BaseResponse一致，响应时间戳和响应时间取自同一次时钟读取
+        Clock clock = DateUtil.getClock();
+        Instant now = clock.instant();
+        long timestamp = now.toEpochMilli();
+        LocalDateTime responseTime = LocalDateTime.ofInstant(now, clock.getZone());
+        if (responseId == null) {
+            return templates[0].render(timestamp, responseTime, null);
+        }
+        return templates[1].render(timestamp, responseTime, encodeString(responseId));
+    }
+
+    /**
+     * 生成无响应ID和带响应ID两个模板：把动态字段替换为占位符后序列化，再按占位符切分
+     */
+    private static Template[] templates(Result<?> response) {
+        ObjectNode node = JsonUtil.getMapper().valueToTree(response);
+        node.remove(RESPONSE_ID_FIELD);
+        node.put(TIMESTAMP_FIELD, TIMESTAMP_PLACEHOLDER);
+        node.put(RESPONSE_TIME_FIELD, RESPONSE_TIME_PLACEHOLDER);
+        // 响应ID是BaseResponse的第一个字段，序列化时排在最前
+        ObjectNode withId = JsonUtil.getMapper().createObjectNode();
+        withId.put(RESPONSE_ID_FIELD, RESPONSE_ID_PLACEHOLDER);
+        withId.setAll(node);
+        return new Template[] {Template.of(JsonUtil.toJsonBytes(node)), Template.of(JsonUtil.toJsonBytes(withId))};
+    }
+
+    /**
+     * 编码为带引号的JSON字符串，只含可直接输出的ASCII字符时直接复制
+     */
+    private static byte[] encodeString(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x7F || c == '"' || c == '\\') {
+                return JsonUtil.toJsonBytes(value);
+            }
+        }
+        byte[] bytes = new byte[length + 2];
+        bytes[0] = '"';
+        for (int i = 0; i < length; i++) {
+            bytes[i + 1] = (byte) value.charAt(i);
+        }
+        bytes[length + 1] = '"';
+        return bytes;
+    }
+
+    /**
+     * 序列化模板：字面字节段与动态字段交替排列
+     */
+    private static final class Template {
+
+        private static final int TIMESTAMP = 0;
+
+        private static final int RESPONSE_TIME = 1;
+
+        private static final int RESPONSE_ID = 2;
+
+        /**
+         * 字面字节段，数量比动态字段多一个
+         */
+        private final byte[][] literals;
+
+        /**
+         * 动态字段类型
+         */
+        private final int[] slots;
+
+        /**
+         * 字面字节段总长度
+         */
+        private final int literalLength;
+
+        private Template(byte[][] literals, int[] slots) {
+            this.literals = literals;
+            this.slots = slots;
+            int length = 0;
+            for (byte[] literal : literals) {
+                length += literal.length;
+            }
+            this.literalLength = length;
+        }
+
+        static Template of(byte[] json) {
+            String[] placeholders = {TIMESTAMP_PLACEHOLDER, RESPONSE_TIME_PLACEHOLDER, RESPONSE_ID_PLACEHOLDER};
+            byte[][] markers = new byte[placeholders.length][];
+            for (int i = 0; i < placeholders.length; i++) {
+                markers[i] = JsonUtil.toJsonBytes(placeholders[i]);
+            }
+            List<byte[]> literals = new ArrayList<>();
+            List<Integer> slots = new ArrayList<>();
+            int start = 0;
+            int position = 0;
+            while (position < json.length) {
+                int slot = matchMarker(json, position, markers);
+                if (slot < 0) {
+                    position++;
+                    continue;
+                }
+                literals.add(Arrays.copyOfRange(json, start, position));
+                slots.add(slot);
+                position += markers[slot].length;
+                start = position;
+            }
+            literals.add(Arrays.copyOfRange(json, start, json.length));
+            return new Template(literals.toArray(new byte[0][]), slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        private static int matchMarker(byte[] json, int position, byte[][] markers) {
+            for (int slot = 0; slot < markers.length; slot++) {
+                byte[] marker = markers[slot];
+                if (Arrays.equals(json, position, Math.min(json.length, position + marker.length), marker, 0,
+                        marker.length)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        byte[] render(long timestamp, LocalDateTime responseTime, byte[] responseId) {
+            byte[] time = encodeDateTime(responseTime);
+            int length = literalLength;
+            for (int slot : slots) {
+                length += switch (slot) {
+                    case TIMESTAMP -> longLength(timestamp);
+                    case RESPONSE_TIME -> time.length;
+                    default -> responseId.length;
+                };
+            }
+            byte[] bytes = new byte[length];
+            int position = 0;
+            for (int i = 0; i < slots.length; i++) {
+                byte[] literal = literals[i];
+                System.arraycopy(literal, 0, bytes, position, literal.length);
+                position += literal.length;
+                if (slots[i] == TIMESTAMP) {
+                    position = writeLong(bytes, position, timestamp);
+                } else {
+                    byte[] value = slots[i] == RESPONSE_TIME ? time : responseId;
+                    System.arraycopy(value, 0, bytes, position, value.length);
+                    position += value.length;
+                }
+            }
+            byte[] last = literals[slots.length];
+            System.arraycopy(last, 0, bytes, position, last.length);
+            return bytes;
+        }
+    }
+
+    /**
+     * 按ISO_LOCAL_DATE_TIME编码为带引号的字符串（与JavaTimeModule的默认输出一致）
+     */
+    private static byte[] encodeDateTime(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return ('"' + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime) + '"')
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        int nano = dateTime.getNano();
+        int fractionDigits = 0;
+        if (nano != 0) {
+            fractionDigits = 9;
+            int value = nano;
+            while (value % 10 == 0) {
+                value /= 10;
+                fractionDigits--;
+            }
+        }
+        byte[] bytes = new byte[21 + (fractionDigits == 0 ? 0 : fractionDigits + 1)];
+        bytes[0] = '"';
+        writeDigits(bytes, 1, year, 4);
+        bytes[5] = '-';
+        writeDigits(bytes, 6, dateTime.getMonthValue(), 2);
+        bytes[8] = '-';
+        writeDigits(bytes, 9, dateTime.getDayOfMonth(), 2);
+        bytes[11] = 'T';
+        writeDigits(bytes, 12, dateTime.getHour(), 2);
+        bytes[14] = ':';
+        writeDigits(bytes, 15, dateTime.getMinute(), 2);
+        bytes[17] = ':';
+        writeDigits(bytes, 18, dateTime.getSecond(), 2);
+        if (fractionDigits > 0) {
+            bytes[20] = '.';
+            int value = nano;
+            for (int i = fractionDigits; i < 9; i++) {
+                value /= 10;
+            }
+            writeDigits(bytes, 21, value, fractionDigits);
+        }
+        bytes[bytes.length - 1] = '"';
+        return bytes;
+    }
+
+    private static void writeDigits(byte[] bytes, int position, int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int longLength(long value) {
+        if (value == Long.MIN_VALUE) {
+            return 20;
+        }
+        int length = value < 0 ? 2 : 1;
+        long remaining = Math.abs(value);
+        while (remaining >= 10) {
+            remaining /= 10;
+            length++;
+        }
+        return length;
+    }
+
+    private static int writeLong(byte[] bytes, int position, long value) {
+        if (value == Long.MIN_VALUE) {
+            byte[] digits = Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(digits, 0, bytes, position, digits.length);
+            return position + digits.length;
+        }
+        int end = position + longLength(value);
+        if (value < 0) {
+            bytes[position] = '-';
+            value = -value;
+        }
+        int index = end;
+        do {
+            bytes[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    /**
+     * 响应状态码和自定义消息组成的缓存键
+     */
+    private record MessageKey(ResponseCodeEnum codeEnum, String message) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.linearizability.common.util;
+
+import java.time.ZoneId;
+
+/**
+ * 时间分桶工具类 基于毫秒时间戳计算滚动窗口、滑动窗口、会话窗口以及按时区的日/周/月分桶，全部使用原始long运算，
+ * 不创建LocalDateTime等中间对象，适用于高频事件流的聚合统计，可配合{@link BucketRing}使用
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+public class TimeBucketUtil {
+
+    /**
+     * 每分钟的毫秒数
+     */
+    public static final long MILLIS_PER_MINUTE = 60_000L;
+
+    /**
+     * 每小时的毫秒数
+     */
+    public static final long MILLIS_PER_HOUR = 3_600_000L;
+
+    /**
+     * 每天的毫秒数
+     */
+    public static final long MILLIS_PER_DAY = ZoneOffsetTable.MILLIS_PER_DAY;
+
+    // ==================== 滚动窗口 ====================
+
+    /**
+     * 计算时间戳所在滚动窗口的开始时间
+     *
+     * @param  timestamp                时间戳（毫秒）
+     * @param  size                     窗口大小（毫秒）
+     * @return                          窗口开始时间（毫秒）
+     * @throws IllegalArgumentException 窗口大小不为正数时抛出
+     */
+    public static long tumblingWindowStart(long timestamp, long size) {
+        return tumblingWindowStart(timestamp, size, 0);
+    }
+
+    /**
+     * 计算时间戳所在滚动窗口的开始时间（带偏移，如按整点后5分钟切分）
+     *
+     * @param  timestamp                时间戳（毫秒）
+     * @param  size                     窗口大小（毫秒）
+     * @param  offset                   窗口偏移（毫秒）
+     * @return                          窗口开始时间（毫秒）
+     * @throws IllegalArgumentException 窗口大小不为正数时抛出
+     */
+    public static long tumblingWindowStart(long timestamp, long size, long offset) {
+        checkPositive(size, "size");
+        return timestamp - Math.floorMod(timestamp - offset, size);
+    }
+
+    /**
+     * 计算时间戳所在滚动窗口的序号（即窗口开始时间 / 窗口大小）
+     *
+     * @param  timestamp                时间戳（毫秒）
+     * @param  size                     窗口大小（毫秒）
+     * @return                          窗口序号
+     * @throws IllegalArgumentException 窗口大小不为正数时抛出
+     */
+    public static long tumblingWindowIndex(long timestamp, long size) {
+        checkPositive(size, "size");
+        return Math.floorDiv(timestamp, size);
+    }
+
+    // ==================== 滑动窗口 ====================
+
+    /**
+     * 计算单个事件最多属于多少个滑动窗口，用于预分配输出数组
+     *
+     * @param  size                     窗口大小（毫秒）
+     * @param  slide                    滑动步长（毫秒）
+     * @return                          窗口数量上限
+     * @throws IllegalArgumentException 窗口大小或步长不为正数时抛出
+     */
+    public static int hoppingWindowCount(long size, long slide) {
+        checkPositive(size, "size");
+        checkPositive(slide, "slide");
+        return (int) ((size + slide - 1) / slide);
+    }
+
+    /**
+     * 计算时间戳所属的全部滑动窗口的开始时间，按升序写入输出数组，输出数组可在多次调用间复用。
+     * 步长大于窗口大小时窗口之间有间隙，落在间隙中的时间戳不属于任何窗口
+     *
+     * @param  timestamp                时间戳（毫秒）
+     * @param  size                     窗口大小（毫秒）
+     * @param  slide                    滑动步长（毫秒）
+     * @param  starts                   输出数组，长度不小于{@link #hoppingWindowCount(long, long)}
+     * @return                          写入的窗口数量，时间戳落在窗口间隙中时为0
+     * @throws IllegalArgumentException 参数不合法或输出数组长度不足时抛出
+     */
+    public static int hoppingWindowStarts(long timestamp, long size, long slide, long[] starts) {
+        int maxCount = hoppingWindowCount(size, slide);
+        if (starts == null || starts.length < maxCount) {
+            throw new IllegalArgumentException("Output array length must be at least " + maxCount);
+        }
+        long offset = Math.floorMod(timestamp, slide);
+        if (offset >= size) {
+            return 0;
+        }
+        long last = timestamp - offset;
+        long first = last;
+        while (first - slide > timestamp - size) {
+            first -= slide;
+        }
+        int count = 0;
+        for (long start = first; start <= last; start += slide) {
+            starts[count++] = start;
+        }
+        return count;
+    }
+
+    // ==================== 会话窗口 ====================
+
+    /**
+     * 判断两个相邻事件是否属于不同会话
+     *
+     * @param  previous 上一个事件时间戳（毫秒）
+     * @param  current  当前事件时间戳（毫秒）
+     * @param  gap      会话间隔（毫秒），相邻事件间隔超过该值时开启新会话
+     * @return          true表示开启新会话
+     */
+    public static boolean isNewSession(long previous, long current, long gap) {
+        return current - previous > gap;
+    }
+
+    /**
+     * 为按时间升序排列的事件分配会话编号，编号从0开始连续递增，输出数组可在多次调用间复用
+     *
+     * @param  sortedTimestamps         按升序排列的时间戳（毫秒）
+     * @param  gap                      会话间隔（毫秒）
+     * @param  sessionIds               输出数组，长度不小于时间戳数组
+     * @return                          会话数量
+     * @throws IllegalArgumentException 会话间隔为负数、输出数组长度不足或时间戳未排序时抛出
+     */
+    public static int assignSessions(long[] sortedTimestamps, long gap, int[] sessionIds) {
+        if (sortedTimestamps == null || sortedTimestamps.length == 0) {
+            return 0;
+        }
+        if (gap < 0) {
+            throw new IllegalArgumentException("gap must not be negative, but was: " + gap);
+        }
+        if (sessionIds == null || sessionIds.length < sortedTimestamps.length) {
+            throw new IllegalArgumentException("Output array length must be at least " + sortedTimestamps.length);
+        }
+        int session = 0;
+        sessionIds[0] = 0;
+        for (int i = 1; i < sortedTimestamps.length; i++) {
+            long previous = sortedTimestamps[i - 1];
+            long current = sortedTimestamps[i];
+            if (current < previous) {
+                throw new IllegalArgumentException("Timestamps are not sorted at index " + i);
+            }
+            if (isNewSession(previous, current, gap)) {
+                session++;
+            }
+            sessionIds[i] = session;
+        }
+        return session + 1;
+    }
+
+    // ==================== 日历分桶 ====================
+
+    /**
+     * 计算时间戳在指定时区所在小时的开始时间，夏令时回拨时重复的小时分别成桶
+     *
+     * @param  timestamp 时间戳（毫秒）
+     * @param  zoneId    时区
+     * @return           小时开始时间（毫秒）
+     */
+    public static long hourStart(long timestamp, ZoneId zoneId) {
+        ZoneOffsetTable table = ZoneOffsetTable.of(zoneId);
+        return timestamp - Math.floorMod(table.toLocalMillis(timestamp), MILLIS_PER_HOUR);
+    }
+
+    /**
+     * 计算时间戳在指定时区所在日的开始时间，与LocalDate.atStartOfDay(zone)一致（零点处于夏令时间隙时取间隙结束时刻）
+     *
+     * @param  timestamp 时间戳（毫秒）
+     * @param  zoneId    时区
+     * @return           日开始时间（毫秒）
+     */
+    public static long dayStart(long timestamp, ZoneId zoneId) {
+        ZoneOffsetTable table = ZoneOffsetTable.of(zoneId);
+        long epochDay = Math.floorDiv(table.toLocalMillis(timestamp), MILLIS_PER_DAY);
+        return table.toEpochMilli(epochDay * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 计算时间戳在指定时区所在周（周一开始）的开始时间
+     *
+     * @param  timestamp 时间戳（毫秒）
+     * @param  zoneId    时区
+     * @return           周开始时间（毫秒）
+     */
+    public static long weekStart(long timestamp, ZoneId zoneId) {
+        ZoneOffsetTable table = ZoneOffsetTable.of(zoneId);
+        int epochDay = (int) Math.floorDiv(table.toLocalMillis(timestamp), MILLIS_PER_DAY);
+        long weekStartDay = epochDay - DateUtil.isoDayOfWeek(epochDay) + 1;
+        return table.toEpochMilli(weekStartDay * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 计算时间戳在指定时区所在月的开始时间
+     *
+     * @param  timestamp 时间戳（毫秒）
+     * @param  zoneId    时区
+     * @return           月开始时间（毫秒）
+     */
+    public static long monthStart(long timestamp, ZoneId zoneId) {
+        ZoneOffsetTable table = ZoneOffsetTable.of(zoneId);
+        int epochDay = (int) Math.floorDiv(table.toLocalMillis(timestamp), MILLIS_PER_DAY);
+        long monthStartDay = DateUtil.monthStart(epochDay);
+        return table.toEpochMilli(monthStartDay * MILLIS_PER_DAY);
+    }
+
+    /**
+     * 计算时间戳在指定时区的本地纪元日，可作为按日分桶的桶序号
+     *
+     * @param  timestamp 时间戳（毫秒）
+     * @param  zoneId    时区
+     * @return           纪元日
+     */
+    public static long dayIndex(long timestamp, ZoneId zoneId) {
+        return Math.floorDiv(ZoneOffsetTable.of(zoneId).toLocalMillis(timestamp), MILLIS_PER_DAY);
+    }
+
+    /**
+     * 计算时间戳在指定时区的周序号（以周一为界），可作为按周分桶的桶序号
+     *
+     * @param  timestamp 时间戳（毫秒）
+     * @param  zoneId    时区
+     * @return           周序号
+     */
+    public static long weekIndex(long timestamp, ZoneId zoneId) {
+        // 1970-01-01为周四，加3天后以周一为界
+        return Math.floorDiv(dayIndex(timestamp, zoneId) + 3, 7);
+    }
+
+    /**
+     * 计算时间戳在指定时区的月序号（年 * 12 + 月 - 1），可作为按月分桶的桶序号
+     *
+     * @param  timestamp 时间戳（毫秒）
+     * @param  zoneId    时区
+     * @return           月序号
+     */
+    public static long monthIndex(long timestamp, ZoneId zoneId) {
+        int epochDay = (int) dayIndex(timestamp, zoneId);
+        int z = epochDay + 719_468;
+        int era = Math.floorDiv(z, 146_097);
+        int dayOfEra = z - era * 146_097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int monthIndex = (5 * dayOfYear + 2) / 153;
+        int month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        long year = yearOfEra + (long) era * 400 + (month <= 2 ? 1 : 0);
+        return year * 12 + month - 1;
+    }
+
+    private static void checkPositive(long value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive, but was: " + value);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.linearizability.common.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 时区转换表 针对一对（源时区，目标时区）预先计算以源时区本地时间为坐标的分段偏移差，
+ * 单次转换只需一次二分查找，批量转换时对有序数据复用上一次命中的分段。转换语义与
+ * dateTime.atZone(source).withZoneSameInstant(target).toLocalDateTime()一致。按时区对缓存，
+ * 命中时无锁且不分配对象；超出上限时在未命中路径上淘汰最久未使用的时区对
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+final class ZoneConversionTable {
+
+    /**
+     * 缓存的时区对数量上限
+     */
+    private static final int MAX_CACHE_SIZE = 64;
+
+    /**
+     * 预计算范围下限（源时区本地毫秒）
+     */
+    private static final long LOWER_LOCAL_MILLIS = ZoneOffsetTable.LOWER_BOUND_MILLIS
+            + ZoneOffsetTable.MAX_OFFSET_MILLIS;
+
+    /**
+     * 预计算范围上限（源时区本地毫秒，不含）
+     */
+    private static final long UPPER_LOCAL_MILLIS = ZoneOffsetTable.UPPER_BOUND_MILLIS
+            - ZoneOffsetTable.MAX_OFFSET_MILLIS;
+
+    /**
+     * 按源时区、目标时区两级缓存的转换表，查找时无需创建组合键
+     */
+    private static final ConcurrentMap<ZoneId, ConcurrentMap<ZoneId, ZoneConversionTable>> CACHE =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 未命中路径（放入和淘汰）的锁，命中路径不加锁
+     */
+    private static final Object LOAD_LOCK = new Object();
+
+    /**
+     * 缓存的转换表数量，由LOAD_LOCK保护
+     */
+    private static int cacheSize;
+
+    /**
+     * 访问时钟，每次未命中加一；命中时把转换表的访问刻度更新为当前值，淘汰刻度最小（最久未使用）的转换表
+     */
+    private static volatile long accessTick;
+
+    /**
+     * 最近一次访问时的访问时钟刻度
+     */
+    private volatile long lastAccess;
+
+    private final ZoneId sourceZone;
+
+    private final ZoneId targetZone;
+
+    private final ZoneOffsetTable source;
+
+    private final ZoneOffsetTable target;
+
+    /**
+     * 分段起点（源时区本地毫秒），升序，第一个元素为预计算范围下限
+     */
+    private final long[] breaks;
+
+    /**
+     * 分段内目标本地时间与源本地时间之差（毫秒）
+     */
+    private final int[] deltas;
+
+    private ZoneConversionTable(ZoneId sourceZone, ZoneId targetZone) {
+        this.sourceZone = sourceZone;
+        this.targetZone = targetZone;
+        this.source = ZoneOffsetTable.of(sourceZone);
+        this.target = ZoneOffsetTable.of(targetZone);
+        long[] sourceTransitions = source.transitions();
+        long[] targetTransitions = target.transitions();
+        long[] candidates = new long[1 + sourceTransitions.length * 2 + targetTransitions.length * 3];
+        int count = 0;
+        candidates[count++] = LOWER_LOCAL_MILLIS;
+        for (long transition : sourceTransitions) {
+            // 源时区切换点前后的本地时间边界（间隙或重叠的起止）
+            int before = source.offsetMillis(transition - 1);
+            int after = source.offsetMillis(transition);
+            candidates[count++] = transition + Math.min(before, after);
+            candidates[count++] = transition + Math.max(before, after);
+        }
+        for (long transition : targetTransitions) {
+            // 目标时区切换时刻对应的源时区本地时间
+            candidates[count++] = transition + source.offsetMillis(transition);
+            candidates[count++] = transition + source.offsetMillis(transition - 1);
+            // 间隙中的本地时间按切换前的偏移换算（向后顺延），目标切换时刻落在源时区间隙内时对应的本地时间使用切换前的偏移
+            int sourceIndex = source.transitionIndex(transition);
+            if (sourceIndex >= 0) {
+                candidates[count++] = transition + source.offsetMillis(sourceTransitions[sourceIndex] - 1);
+            }
+        }
+        Arrays.sort(candidates, 0, count);
+        List<long[]> segments = new ArrayList<>();
+        long previousDelta = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            long point = candidates[i];
+            if (point < LOWER_LOCAL_MILLIS || point >= UPPER_LOCAL_MILLIS || (i > 0 && point == candidates[i - 1])) {
+                continue;
+            }
+            long instant = source.toEpochMilli(point);
+            long delta = instant + target.offsetMillis(instant) - point;
+            if (delta != previousDelta) {
+                segments.add(new long[]{point, delta});
+                previousDelta = delta;
+            }
+        }
+        this.breaks = new long[segments.size()];
+        this.deltas = new int[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            breaks[i] = segments.get(i)[0];
+            deltas[i] = (int) segments.get(i)[1];
+        }
+    }
+
+    /**
+     * 获取时区转换表
+     *
+     * @param  sourceZone 源时区
+     * @param  targetZone 目标时区
+     * @return            转换表
+     */
+    static ZoneConversionTable of(ZoneId sourceZone, ZoneId targetZone) {
+        Map<ZoneId, ZoneConversionTable> tables = CACHE.get(sourceZone);
+        ZoneConversionTable table = tables == null ? null : tables.get(targetZone);
+        if (table == null) {
+            return load(sourceZone, targetZone);
+        }
+        // 刻度只在未命中时变化，命中时通常只读不写，避免热点转换表所在缓存行的写竞争
+        long tick = accessTick;
+        if (table.lastAccess != tick) {
+            table.lastAccess = tick;
+        }
+        return table;
+    }
+
+    /**
+     * 未命中时构建并放入转换表，超出上限时淘汰最久未使用的转换表。构建在锁外进行，并发未命中时只保留先放入的一个
+     */
+    private static ZoneConversionTable load(ZoneId sourceZone, ZoneId targetZone) {
+        ZoneConversionTable created = new ZoneConversionTable(sourceZone, targetZone);
+        synchronized (LOAD_LOCK) {
+            ConcurrentMap<ZoneId, ZoneConversionTable> tables = CACHE.computeIfAbsent(sourceZone,
+                    zone -> new ConcurrentHashMap<>());
+            ZoneConversionTable existing = tables.putIfAbsent(targetZone, created);
+            if (existing != null) {
+                existing.lastAccess = accessTick;
+                return existing;
+            }
+            long tick = accessTick + 1;
+            accessTick = tick;
+            created.lastAccess = tick;
+            if (++cacheSize > MAX_CACHE_SIZE) {
+                evictEldest(created);
+            }
+            return created;
+        }
+    }
+
+    /**
+     * 淘汰访问刻度最小的转换表（刚放入的除外），调用方须持有LOAD_LOCK
+     *
+     * @param created 刚放入的转换表
+     */
+    private static void evictEldest(ZoneConversionTable created) {
+        ZoneConversionTable eldest = null;
+        for (Map<ZoneId, ZoneConversionTable> tables : CACHE.values()) {
+            for (ZoneConversionTable table : tables.values()) {
+                if (table != created && (eldest == null || table.lastAccess < eldest.lastAccess)) {
+                    eldest = table;
+                }
+            }
+        }
+        if (eldest == null) {
+            return;
+        }
+        Map<ZoneId, ZoneConversionTable> tables = CACHE.get(eldest.sourceZone);
+        tables.remove(eldest.targetZone, eldest);
+        if (tables.isEmpty()) {
+            CACHE.remove(eldest.sourceZone, tables);
+        }
+        cacheSize--;
+    }
+
+    /**
+     * 转换单个日期时间
+     *
+     * @param  dateTime 源时区的日期时间
+     * @return          目标时区的日期时间
+     */
+    LocalDateTime convert(LocalDateTime dateTime) {
+        long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        if (!inRange(localSecond)) {
+            return dateTime.atZone(sourceZone).withZoneSameInstant(targetZone).toLocalDateTime();
+        }
+        int segment = segmentOf(localSecond * 1000, -1);
+        return LocalDateTime.ofEpochSecond(localSecond + deltas[segment] / 1000, dateTime.getNano(),
+                ZoneOffset.UTC);
+    }
+
+    /**
+     * 批量转换日期时间，null元素原样保留；输入按时间排序时相邻元素复用同一分段，无需重复查找
+     *
+     * @param  dateTimes 源时区的日期时间列表
+     * @return           目标时区的日期时间列表
+     */
+    List<LocalDateTime> convert(List<LocalDateTime> dateTimes) {
+        List<LocalDateTime> result = new ArrayList<>(dateTimes.size());
+        int segment = -1;
+        for (LocalDateTime dateTime : dateTimes) {
+            if (dateTime == null) {
+                result.add(null);
+                continue;
+            }
+            long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+            if (!inRange(localSecond)) {
+                result.add(dateTime.atZone(sourceZone).withZoneSameInstant(targetZone).toLocalDateTime());
+                continue;
+            }
+            segment = segmentOf(localSecond * 1000, segment);
+            result.add(LocalDateTime.ofEpochSecond(localSecond + deltas[segment] / 1000, dateTime.getNano(),
+                    ZoneOffset.UTC));
+        }
+        return result;
+    }
+
+    /**
+     * 批量转换本地毫秒（本地日期时间按UTC计算的毫秒数）；输入有序时相邻元素复用同一分段
+     *
+     * @param  localMillis 源时区的本地毫秒数组
+     * @return             目标时区的本地毫秒数组
+     */
+    long[] convert(long[] localMillis) {
+        long[] result = new long[localMillis.length];
+        int segment = -1;
+        for (int i = 0; i < localMillis.length; i++) {
+            long millis = localMillis[i];
+            if (millis < LOWER_LOCAL_MILLIS || millis >= UPPER_LOCAL_MILLIS) {
+                result[i] = target.toLocalMillis(source.toEpochMilli(millis));
+                continue;
+            }
+            segment = segmentOf(millis, segment);
+            result[i] = millis + deltas[segment];
+        }
+        return result;
+    }
+
+    private static boolean inRange(long localSecond) {
+        return localSecond >= LOWER_LOCAL_MILLIS / 1000 && localSecond < UPPER_LOCAL_MILLIS / 1000;
+    }
+
+    /**
+     * 查找本地时间所在分段，优先检查提示分段及其后一个分段
+     *
+     * @param  localMillis 源时区本地毫秒（须在预计算范围内）
+     * @param  hint        提示分段下标，没有时传-1
+     * @return             分段下标
+     */
+    private int segmentOf(long localMillis, int hint) {
+        if (hint >= 0 && localMillis >= breaks[hint]) {
+            if (hint + 1 == breaks.length || localMillis < breaks[hint + 1]) {
+                return hint;
+            }
+            if (hint + 2 == breaks.length || localMillis < breaks[hint + 2]) {
+                return hint + 1;
+            }
+        }
+        int index = Arrays.binarySearch(breaks, localMillis);
+        return index >= 0 ? index : -index - 2;
+    }
+}
@@ -0,0 +1,247 @@
+package com.linearizability.common.util;
+
+import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 时区偏移表 预先展开时区在1900~2100年之间的所有偏移切换点，偏移查询只需一次二分查找，不创建Instant等中间对象。
+ * 超出范围的时间退回ZoneRules计算。实例不可变，线程安全，按时区缓存
+ *
+ * @author ZhangBoyuan
+ * @since  2026-10-19
+ */
+final class ZoneOffsetTable {
+
+    /**
+     * 每天的毫秒数
+     */
+    static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * 预计算范围下限（1900-01-01T00:00:00Z）
+     */
+    static final long LOWER_BOUND_MILLIS = -2_208_988_800_000L;
+
+    /**
+     * 预计算范围上限（2100-01-01T00:00:00Z）
+     */
+    static final long UPPER_BOUND_MILLIS = 4_102_444_800_000L;
+
+    /**
+     * 最大时区偏移（毫秒）
+     */
+    static final long MAX_OFFSET_MILLIS = 18 * 3_600_000L;
+
+    /**
+     * 偏移表缓存
+     */
+    private static final ConcurrentMap<ZoneId, ZoneOffsetTable> CACHE = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+
+    private final ZoneRules rules;
+
+    /**
+     * 是否固定偏移
+     */
+    private final boolean fixed;
+
+    /**
+     * 第一个切换点之前的偏移（毫秒）
+     */
+    private final int initialOffset;
+
+    /**
+     * 切换点（UTC毫秒），升序
+     */
+    private final long[] transitions;
+
+    /**
+     * 切换前偏移（毫秒）
+     */
+    private final int[] offsetsBefore;
+
+    /**
+     * 切换后偏移（毫秒）
+     */
+    private final int[] offsetsAfter;
+
+    /**
+     * 切换点附近不连续本地时间段（间隙或重叠）的起点（本地毫秒）
+     */
+    private final long[] localStarts;
+
+    /**
+     * 切换点附近不连续本地时间段（间隙或重叠）的终点（本地毫秒，不含）
+     */
+    private final long[] localEnds;
+
+    private ZoneOffsetTable(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixed = rules.isFixedOffset();
+        this.initialOffset = rules.getOffset(Instant.ofEpochMilli(LOWER_BOUND_MILLIS)).getTotalSeconds() * 1000;
+        List<ZoneOffsetTransition> list = new ArrayList<>();
+        if (!fixed) {
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochMilli(LOWER_BOUND_MILLIS));
+            while (transition != null && transition.toEpochSecond() * 1000 < UPPER_BOUND_MILLIS) {
+                list.add(transition);
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+        int size = list.size();
+        this.transitions = new long[size];
+        this.offsetsBefore = new int[size];
+        this.offsetsAfter = new int[size];
+        this.localStarts = new long[size];
+        this.localEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            ZoneOffsetTransition transition = list.get(i);
+            transitions[i] = transition.toEpochSecond() * 1000;
+            offsetsBefore[i] = transition.getOffsetBefore().getTotalSeconds() * 1000;
+            offsetsAfter[i] = transition.getOffsetAfter().getTotalSeconds() * 1000;
+            localStarts[i] = transitions[i] + Math.min(offsetsBefore[i], offsetsAfter[i]);
+            localEnds[i] = transitions[i] + Math.max(offsetsBefore[i], offsetsAfter[i]);
+        }
+    }
+
+    /**
+     * 获取时区偏移表
+     *
+     * @param  zone 时区
+     * @return      偏移表
+     */
+    static ZoneOffsetTable of(ZoneId zone) {
+        return CACHE.computeIfAbsent(zone, ZoneOffsetTable::new);
+    }
+
+    ZoneId getZone() {
+        return zone;
+    }
+
+    boolean isFixed() {
+        return fixed;
+    }
+
+    /**
+     * 获取指定时刻的偏移
+     *
+     * @param  epochMilli UTC毫秒
+     * @return            偏移（毫秒）
+     */
+    int offsetMillis(long epochMilli) {
+        if (fixed) {
+            return initialOffset;
+        }
+        if (epochMilli < LOWER_BOUND_MILLIS || epochMilli >= UPPER_BOUND_MILLIS) {
+            return rules.getOffset(Instant.ofEpochMilli(epochMilli)).getTotalSeconds() * 1000;
+        }
+        int index = transitionIndex(epochMilli);
+        return index < 0 ? initialOffset : offsetsAfter[index];
+    }
+
+    /**
+     * UTC毫秒转本地毫秒（本地时间按UTC计算的毫秒数）
+     *
+     * @param  epochMilli UTC毫秒
+     * @return            本地毫秒
+     */
+    long toLocalMillis(long epochMilli) {
+        return epochMilli + offsetMillis(epochMilli);
+    }
+
+    /**
+     * 本地毫秒转UTC毫秒，处理方式与ZonedDateTime.of一致：间隙中的时间向后顺延，重叠中的时间取较早的偏移
+     *
+     * @param  localMillis 本地毫秒
+     * @return             UTC毫秒
+     */
+    long toEpochMilli(long localMillis) {
+        if (fixed) {
+            return localMillis - initialOffset;
+        }
+        if (localMillis < LOWER_BOUND_MILLIS + MAX_OFFSET_MILLIS
+                || localMillis >= UPPER_BOUND_MILLIS - MAX_OFFSET_MILLIS) {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000),
+                    Math.floorMod(localMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+            return dateTime.atZone(zone).toInstant().toEpochMilli();
+        }
+        int index = localIndex(localMillis);
+        if (index < 0) {
+            return localMillis - initialOffset;
+        }
+        return localMillis < localEnds[index]
+                ? localMillis - offsetsBefore[index]
+                : localMillis - offsetsAfter[index];
+    }
+
+    /**
+     * 批量将UTC毫秒转换为本地纪元日，连续落在同一偏移区间的时间复用上一次的查找结果
+     *
+     * @param  epochMillis UTC毫秒数组
+     * @return             纪元日数组
+     */
+    int[] toEpochDays(long[] epochMillis) {
+        int length = epochMillis.length;
+        int[] result = new int[length];
+        if (fixed) {
+            for (int i = 0; i < length; i++) {
+                result[i] = (int) Math.floorDiv(epochMillis[i] + initialOffset, MILLIS_PER_DAY);
+            }
+            return result;
+        }
+        long windowStart = Long.MAX_VALUE;
+        long windowEnd = Long.MIN_VALUE;
+        int offset = 0;
+        for (int i = 0; i < length; i++) {
+            long millis = epochMillis[i];
+            if (millis < windowStart || millis >= windowEnd) {
+                offset = offsetMillis(millis);
+                if (millis < LOWER_BOUND_MILLIS || millis >= UPPER_BOUND_MILLIS) {
+                    windowStart = millis;
+                    windowEnd = millis + 1;
+                } else {
+                    int index = transitionIndex(millis);
+                    windowStart = index < 0 ? LOWER_BOUND_MILLIS : transitions[index];
+                    windowEnd = index + 1 < transitions.length ? transitions[index + 1] : UPPER_BOUND_MILLIS;
+                }
+            }
+            result[i] = (int) Math.floorDiv(millis + offset, MILLIS_PER_DAY);
+        }
+        return result;
+    }
+
+    /**
+     * 获取预计算范围内的切换点（UTC毫秒）
+     *
+     * @return 切换点数组（内部数组，调用方不得修改）
+     */
+    long[] transitions() {
+        return transitions;
+    }
+
+    /**
+     * 查找不晚于指定时刻的最后一个切换点下标
+     *
+     * @param  epochMilli UTC毫秒
+     * @return            切换点下标，不存在时返回-1
+     */
+    int transitionIndex(long epochMilli) {
+        int index = Arrays.binarySearch(transitions, epochMilli);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * 查找起点不晚于指定本地时间的最后一个切换点下标
+     */
+    private int localIndex(long localMillis) {
+        int index = Arrays.binarySearch(localStarts, localMillis);
+        return index >= 0 ? index : -index - 2;
+    }
+}